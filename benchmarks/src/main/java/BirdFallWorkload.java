@@ -0,0 +1,22 @@
+import bench.Workload;
+
+/**
+ * Measures Bird.fall per operation, respawning the bird once it falls out of the window.
+ */
+public class BirdFallWorkload implements Workload {
+    private Bird bird;
+
+    @Override
+    public void setUp(int timeScale) {
+        bird = new Level1(0).createBird();
+    }
+
+    @Override
+    public double run() {
+        bird.fall();
+        if (bird.getBird().top() > Viewport.HEIGHT) {
+            bird.respawn();
+        }
+        return bird.getBird().top();
+    }
+}
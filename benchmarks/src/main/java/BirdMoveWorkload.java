@@ -0,0 +1,22 @@
+import bench.Workload;
+
+/**
+ * Measures Bird.move per operation, respawning the bird once it flies out of the window.
+ */
+public class BirdMoveWorkload implements Workload {
+    private Bird bird;
+
+    @Override
+    public void setUp(int timeScale) {
+        bird = new Level1(0).createBird();
+    }
+
+    @Override
+    public double run() {
+        bird.move();
+        if (bird.getBird().bottom() < 0) {
+            bird.respawn();
+        }
+        return bird.getBird().top();
+    }
+}
@@ -0,0 +1,9 @@
+/**
+ * Measures a full Level0 update per operation.
+ */
+public class Level0TickWorkload extends LevelTickWorkload {
+    @Override
+    protected int getLevelNumber() {
+        return 0;
+    }
+}
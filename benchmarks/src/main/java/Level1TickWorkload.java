@@ -0,0 +1,9 @@
+/**
+ * Measures a full Level1 update per operation.
+ */
+public class Level1TickWorkload extends LevelTickWorkload {
+    @Override
+    protected int getLevelNumber() {
+        return 1;
+    }
+}
@@ -0,0 +1,131 @@
+
+/**
+ * Represents a headless run through a single level, flown by a simple policy that flaps whenever the bird
+ * drops below the centre of the next gap, and shoots at a fixed interval. Used to drive the benchmarks
+ * with realistic entity counts. Runs are seeded, so every benchmark sees the same sequence of levels.
+ */
+public class LevelRun {
+    private final int SHOOT_INTERVAL = 40;
+    private final long SEED = 20211;
+
+    private final int levelNumber;
+    private final int timeScaleSteps;
+    private final GameRandom random;
+    private final Level level;
+    private final EntityDeque<Pipes> pipes;
+    private final EntityDeque<Weapon> weapons;
+    private final Bird bird;
+    private final Background background;
+    private final TimeScale timeScale;
+    private int frame;
+
+    /**
+     * Takes in levelNumber and timeScale, and instantiates a LevelRun.
+     * @param levelNumber int, the level to run, either 0 or 1.
+     * @param timeScale int, the timescale the level is run at.
+     */
+    public LevelRun(int levelNumber, int timeScale) {
+        this.levelNumber = levelNumber;
+        this.timeScaleSteps = timeScale - (int) TimeScalable.TIMESCALE_MIN;
+        this.random = new GameRandom(SEED);
+        GameRandom levelRandom = new GameRandom(random.nextLong());
+        this.level = levelNumber == 0 ? new Level0(0, levelRandom) : new Level1(0, levelRandom);
+        this.pipes = new EntityDeque<>();
+        this.weapons = new EntityDeque<>();
+        this.bird = level.createBird();
+        this.background = level.createBackground();
+        this.timeScale = new TimeScale();
+        speedUp();
+    }
+
+    /**
+     * Restarts the level from its first frame with the next seed, reusing the level's objects, returns nothing.
+     * @return void
+     */
+    public void reset() {
+        level.reset(0, random.nextLong(), pipes, weapons);
+        bird.reset();
+        timeScale.reset();
+        speedUp();
+        frame = 0;
+    }
+
+    private void speedUp() {
+        for (int i = 0; i < timeScaleSteps; i++) {
+            timeScale.timeScale(Controls.SPEED_UP);
+        }
+    }
+
+    /**
+     * Advances the level by a single frame, restarting it once it is over, returns nothing.
+     * @return void
+     */
+    public void update() {
+        if (level.getIsGameOver() || level.getIsLevelCompleted()) {
+            reset();
+        }
+        level.update(decide(), pipes, bird, weapons, background, timeScale);
+        frame++;
+    }
+
+    private int decide() {
+        int controls = Controls.NONE;
+        double target = Viewport.HEIGHT / 2.0;
+
+        // Oldest pipe that the bird has not yet passed
+        for (int i = pipes.size() - 1; i >= 0; i--) {
+            Pipes pipe = pipes.get(i);
+            if (pipe.getTopPipe().right() >= bird.getBird().left()) {
+                target = (pipe.getTopPipe().bottom() + pipe.getBottomPipe().top()) / 2;
+                break;
+            }
+        }
+        if (bird.getBird().centreY() > target) {
+            controls |= Controls.FLAP;
+        }
+        if (frame % SHOOT_INTERVAL == 0) {
+            controls |= Controls.SHOOT;
+        }
+        return controls;
+    }
+
+    /**
+     * Gets the level.
+     * @return Level The level being run.
+     */
+    public Level getLevel() {
+        return level;
+    }
+
+    /**
+     * Gets the pipes.
+     * @return EntityDeque<Pipes> The pipes within the level.
+     */
+    public EntityDeque<Pipes> getPipes() {
+        return pipes;
+    }
+
+    /**
+     * Gets the weapons.
+     * @return EntityDeque<Weapon> The weapons within the level.
+     */
+    public EntityDeque<Weapon> getWeapons() {
+        return weapons;
+    }
+
+    /**
+     * Gets the bird.
+     * @return Bird The bird within the level.
+     */
+    public Bird getBird() {
+        return bird;
+    }
+
+    /**
+     * Gets the timeScale.
+     * @return TimeScale The timescale of the level.
+     */
+    public TimeScale getTimeScale() {
+        return timeScale;
+    }
+}
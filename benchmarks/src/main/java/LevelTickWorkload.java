@@ -0,0 +1,21 @@
+import bench.Workload;
+
+/**
+ * Measures a full level update, including collisions and the bird, per operation.
+ */
+public abstract class LevelTickWorkload implements Workload {
+    private LevelRun run;
+
+    protected abstract int getLevelNumber();
+
+    @Override
+    public void setUp(int timeScale) {
+        run = new LevelRun(getLevelNumber(), timeScale);
+    }
+
+    @Override
+    public double run() {
+        run.update();
+        return run.getBird().getBird().top();
+    }
+}
@@ -0,0 +1,31 @@
+import bench.Workload;
+
+/**
+ * Measures Pipes.move per operation, across the number of plastic and steel pipes on screen at once.
+ */
+public class PipesMoveWorkload implements Workload {
+    private final int PIPE_COUNT = 4;
+    private final double GAP_START_Y = 300;
+
+    private Pipes[] pipes;
+
+    @Override
+    public void setUp(int timeScale) {
+        TimeScale scale = new TimeScale();
+        for (int i = (int) TimeScalable.TIMESCALE_MIN; i < timeScale; i++) {
+            scale.timeScale(Controls.SPEED_UP);
+        }
+        pipes = new Pipes[PIPE_COUNT];
+        for (int i = 0; i < PIPE_COUNT; i++) {
+            pipes[i] = i % 2 == 0 ? new PlasticPipes(GAP_START_Y, scale) : new SteelPipes(GAP_START_Y, scale);
+        }
+    }
+
+    @Override
+    public double run() {
+        for (Pipes pipe : pipes) {
+            pipe.move();
+        }
+        return pipes[0].getTopPipe().left();
+    }
+}
@@ -0,0 +1,44 @@
+import bench.Workload;
+
+/**
+ * Measures SteelPipes.hasCollided per operation, cycling through pipes at every point of the flame cycle
+ * and a bird that is within the gap, within reach of the flames, or hitting the pipe.
+ */
+public class SteelPipesCollisionWorkload implements Workload {
+    private final int FLAME_CYCLE_FRAMES = 20;
+    private final double GAP_START_Y = 300;
+    private final double[] BIRD_TOPS = new double[]{365, 320, 250};
+    private final double BIRD_WIDTH = 55;
+    private final double BIRD_HEIGHT = 39;
+
+    private SteelPipes[] pipes;
+    private Hitbox[] birds;
+    private int index;
+
+    @Override
+    public void setUp(int timeScale) {
+        TimeScale scale = new TimeScale();
+        for (int i = (int) TimeScalable.TIMESCALE_MIN; i < timeScale; i++) {
+            scale.timeScale(Controls.SPEED_UP);
+        }
+        pipes = new SteelPipes[FLAME_CYCLE_FRAMES];
+        birds = new Hitbox[FLAME_CYCLE_FRAMES * BIRD_TOPS.length];
+        for (int i = 0; i < FLAME_CYCLE_FRAMES; i++) {
+            pipes[i] = new SteelPipes(GAP_START_Y, scale);
+            for (int j = 0; j < i; j++) {
+                pipes[i].move();
+            }
+            for (int j = 0; j < BIRD_TOPS.length; j++) {
+                birds[i * BIRD_TOPS.length + j] = new Hitbox(pipes[i].getTopPipe().left(), BIRD_TOPS[j],
+                        BIRD_WIDTH, BIRD_HEIGHT);
+            }
+        }
+        index = 0;
+    }
+
+    @Override
+    public double run() {
+        index = (index + 1) % birds.length;
+        return pipes[index / BIRD_TOPS.length].hasCollided(birds[index]) ? 1 : 0;
+    }
+}
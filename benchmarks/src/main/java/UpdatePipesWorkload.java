@@ -0,0 +1,24 @@
+import bench.Workload;
+
+/**
+ * Measures Level1.updatePipes per operation, with pipes spawning, moving and leaving the frame.
+ */
+public class UpdatePipesWorkload implements Workload {
+    private Level1 level;
+    private EntityDeque<Pipes> pipes;
+    private TimeScale timeScale;
+
+    @Override
+    public void setUp(int timeScale) {
+        LevelRun run = new LevelRun(1, timeScale);
+        this.level = (Level1) run.getLevel();
+        this.pipes = run.getPipes();
+        this.timeScale = run.getTimeScale();
+    }
+
+    @Override
+    public double run() {
+        level.updatePipes(pipes, timeScale);
+        return pipes.size();
+    }
+}
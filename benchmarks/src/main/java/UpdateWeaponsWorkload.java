@@ -0,0 +1,36 @@
+import bench.Workload;
+
+/**
+ * Measures Level1.updateWeapons per operation. The level is first played for a while to populate the
+ * pipes and weapons, after which only the pipe frame counter is advanced so that weapons keep spawning.
+ */
+public class UpdateWeaponsWorkload implements Workload {
+    private final int WARM_UP_FRAMES = 500;
+
+    private Level1 level;
+    private EntityDeque<Pipes> pipes;
+    private EntityDeque<Weapon> weapons;
+    private Bird bird;
+    private TimeScale timeScale;
+
+    @Override
+    public void setUp(int timeScale) {
+        LevelRun run = new LevelRun(1, timeScale);
+        for (int i = 0; i < WARM_UP_FRAMES; i++) {
+            run.update();
+        }
+        this.level = (Level1) run.getLevel();
+        this.pipes = run.getPipes();
+        this.weapons = run.getWeapons();
+        this.bird = run.getBird();
+        this.timeScale = run.getTimeScale();
+    }
+
+    @Override
+    public double run() {
+        long interval = Math.round(level.getPipeInterval());
+        level.setFrameCountPipes((int) ((level.getFrameCountPipes() + 1) % interval));
+        level.updateWeapons(weapons, pipes, bird, timeScale);
+        return weapons.size();
+    }
+}
@@ -0,0 +1,34 @@
+import bench.Workload;
+
+/**
+ * Measures Weapon.move per operation for a rock and a bomb, respawning them once they leave the window.
+ */
+public class WeaponMoveWorkload implements Workload {
+    private final double WEAPON_Y = 300;
+
+    private Weapon[] weapons;
+    private TimeScale scale;
+
+    @Override
+    public void setUp(int timeScale) {
+        scale = new TimeScale();
+        for (int i = (int) TimeScalable.TIMESCALE_MIN; i < timeScale; i++) {
+            scale.timeScale(Controls.SPEED_UP);
+        }
+        weapons = new Weapon[]{
+                new Rock(Weapon.INITIAL_VELOCITY, WEAPON_Y, scale),
+                new Bomb(Weapon.INITIAL_VELOCITY, WEAPON_Y, scale)
+        };
+    }
+
+    @Override
+    public double run() {
+        for (Weapon weapon : weapons) {
+            weapon.move();
+            if (weapon.isOutOfFrame()) {
+                weapon.reset(Weapon.INITIAL_VELOCITY, WEAPON_Y, scale);
+            }
+        }
+        return weapons[0].getWeapon().left();
+    }
+}
@@ -0,0 +1,68 @@
+package bench;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Checks that the per-frame movement paths and full level ticks allocate nothing once warmed up, using the
+ * thread's allocated bytes counter over thousands of operations at every timescale. Level ticks restart
+ * finished levels in place, so the measured window includes restarts. Exits with a non-zero status if a
+ * workload allocates.
+ */
+public final class AllocationCheck {
+    private static final String[] CHECKED_WORKLOADS = {
+            "PipesMoveWorkload", "WeaponMoveWorkload", "SteelPipesCollisionWorkload",
+            "BirdFallWorkload", "BirdMoveWorkload", "Level0TickWorkload", "Level1TickWorkload"
+    };
+    private static final int MIN_TIMESCALE = 1;
+    private static final int MAX_TIMESCALE = 5;
+    private static final int WARM_UP_OPERATIONS = 200_000;
+    private static final int MEASURED_OPERATIONS = 10_000;
+    private static final int ERROR = 1;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private AllocationCheck() {
+    }
+
+    public static void main(String[] args) {
+        boolean passed = true;
+        for (String name : CHECKED_WORKLOADS) {
+            for (int timeScale = MIN_TIMESCALE; timeScale <= MAX_TIMESCALE; timeScale++) {
+                long bytes = measure(name, timeScale);
+                System.out.printf("%-30s timescale %d: %d bytes over %d operations%n",
+                        name, timeScale, bytes, MEASURED_OPERATIONS);
+                passed &= bytes == 0;
+            }
+        }
+        if (!passed) {
+            System.out.println("Allocation check failed.");
+            System.exit(ERROR);
+        }
+    }
+
+    private static long measure(String name, int timeScale) {
+        Workload workload = Workloads.load(name, timeScale);
+        double sink = 0;
+        for (int i = 0; i < WARM_UP_OPERATIONS; i++) {
+            sink += workload.run();
+        }
+
+        // Calibrate for the counter itself
+        long thread = Thread.currentThread().getId();
+        long before = THREADS.getThreadAllocatedBytes(thread);
+        long overhead = THREADS.getThreadAllocatedBytes(thread) - before;
+
+        before = THREADS.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < MEASURED_OPERATIONS; i++) {
+            sink += workload.run();
+        }
+        long allocated = THREADS.getThreadAllocatedBytes(thread) - before - overhead;
+
+        // Keep the results alive
+        if (Double.isNaN(sink)) {
+            System.out.println(sink);
+        }
+        return Math.max(allocated, 0);
+    }
+}
@@ -0,0 +1,45 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the bird's movement, which does not depend on the timescale.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BirdBenchmarks {
+    private static final int DEFAULT_TIMESCALE = 1;
+
+    private Workload birdFall;
+    private Workload birdMove;
+
+    @Setup
+    public void setUp() {
+        birdFall = Workloads.load("BirdFallWorkload", DEFAULT_TIMESCALE);
+        birdMove = Workloads.load("BirdMoveWorkload", DEFAULT_TIMESCALE);
+    }
+
+    @Benchmark
+    public double birdFall() {
+        return birdFall.run();
+    }
+
+    @Benchmark
+    public double birdMove() {
+        return birdMove.run();
+    }
+}
@@ -0,0 +1,61 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the per-frame level updates at every timescale.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LevelBenchmarks {
+    @Param({"1", "2", "3", "4", "5"})
+    public int timeScale;
+
+    private Workload updatePipes;
+    private Workload updateWeapons;
+    private Workload level0Tick;
+    private Workload level1Tick;
+
+    @Setup
+    public void setUp() {
+        updatePipes = Workloads.load("UpdatePipesWorkload", timeScale);
+        updateWeapons = Workloads.load("UpdateWeaponsWorkload", timeScale);
+        level0Tick = Workloads.load("Level0TickWorkload", timeScale);
+        level1Tick = Workloads.load("Level1TickWorkload", timeScale);
+    }
+
+    @Benchmark
+    public double level1UpdatePipes() {
+        return updatePipes.run();
+    }
+
+    @Benchmark
+    public double level1UpdateWeapons() {
+        return updateWeapons.run();
+    }
+
+    @Benchmark
+    public double level0Tick() {
+        return level0Tick.run();
+    }
+
+    @Benchmark
+    public double level1Tick() {
+        return level1Tick.run();
+    }
+}
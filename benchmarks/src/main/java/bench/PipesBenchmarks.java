@@ -0,0 +1,47 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures pipe movement and collision at every timescale.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PipesBenchmarks {
+    @Param({"1", "2", "3", "4", "5"})
+    public int timeScale;
+
+    private Workload pipesMove;
+    private Workload steelPipesHasCollided;
+
+    @Setup
+    public void setUp() {
+        pipesMove = Workloads.load("PipesMoveWorkload", timeScale);
+        steelPipesHasCollided = Workloads.load("SteelPipesCollisionWorkload", timeScale);
+    }
+
+    @Benchmark
+    public double pipesMove() {
+        return pipesMove.run();
+    }
+
+    @Benchmark
+    public double steelPipesHasCollided() {
+        return steelPipesHasCollided.run();
+    }
+}
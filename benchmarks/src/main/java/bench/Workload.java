@@ -0,0 +1,21 @@
+package bench;
+
+/**
+ * Represents a unit of game work measured by the benchmarks.
+ * The game classes live in the unnamed package, which JMH benchmark classes cannot reference, so each
+ * workload is implemented there and loaded by name through {@link Workloads}.
+ */
+public interface Workload {
+    /**
+     * Prepares the workload at the given timescale, returns nothing.
+     * @param timeScale int, the timescale the workload is run at.
+     * @return void
+     */
+    void setUp(int timeScale);
+
+    /**
+     * Performs a single operation of the workload.
+     * @return double A value derived from the resulting state, to be consumed by the benchmark.
+     */
+    double run();
+}
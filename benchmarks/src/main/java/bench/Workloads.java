@@ -0,0 +1,26 @@
+package bench;
+
+/**
+ * Loads workloads from the unnamed package by class name.
+ */
+public final class Workloads {
+    private Workloads() {
+    }
+
+    /**
+     * Takes in name and timeScale, instantiates the named workload, and sets it up.
+     * @param name String, the class name of the workload.
+     * @param timeScale int, the timescale the workload is run at.
+     * @return Workload The workload, ready to be run.
+     */
+    public static Workload load(String name, int timeScale) {
+        Workload workload;
+        try {
+            workload = (Workload) Class.forName(name).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to load workload " + name, e);
+        }
+        workload.setUp(timeScale);
+        return workload;
+    }
+}
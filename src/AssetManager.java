@@ -0,0 +1,116 @@
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Represents the loading of each level's images. The level being played is loaded before its first frame,
+ * while the next level's files are read and its collision masks decoded on a background thread during play.
+ * Images can only be created on the thread drawing the window, so the preloaded sprites are queued and turned
+ * into images a few at a time at frame boundaries, and nothing is loaded for the first time when the next
+ * level starts or its first steel pipe spawns. Each level loaded is a user of its sprites, and unloading it
+ * lets go of the images no other level uses.
+ */
+public class AssetManager {
+    private static final int UPLOADS_PER_FRAME = 1;
+
+    // Sprites preloaded and waiting to be uploaded, filled by the preloading thread
+    private final ConcurrentLinkedQueue<Sprite> ready;
+    private Thread preloader;
+
+    /**
+     * Instantiates an AssetManager with nothing loaded.
+     */
+    public AssetManager() {
+        this.ready = new ConcurrentLinkedQueue<>();
+        this.preloader = null;
+    }
+
+    /**
+     * Takes in level, and loads all its images and collision masks straight away, returns nothing.
+     * Must be called from the thread drawing the window.
+     * @param level Level object whose assets are loaded.
+     * @return void
+     */
+    public void load(Level level) {
+        for (Sprite sprite : level.getCollisionSprites()) {
+            sprite.getMask();
+        }
+        for (Sprite sprite : level.getSprites()) {
+            sprite.acquire();
+        }
+    }
+
+    /**
+     * Takes in level, a level loaded or preloaded earlier, and releases its sprites, so that images used by
+     * no other level are dropped, returns nothing. Must be called from the thread drawing the window.
+     * @param level Level object whose assets are unloaded.
+     * @return void
+     */
+    public void unload(Level level) {
+        for (Sprite sprite : level.getSprites()) {
+            sprite.release();
+        }
+    }
+
+    /**
+     * Takes in level, and starts reading its image files and decoding its collision masks on a background
+     * thread, queueing each sprite for uploadReady once read, returns nothing.
+     * @param level Level object whose assets are preloaded.
+     * @return void
+     */
+    public void preload(Level level) {
+        preloader = new Thread(() -> {
+            // Class initialisation of the level's entities happens here too, such as the steel pipe's flame mask
+            Sprite[] sprites = level.getSprites();
+            for (Sprite sprite : level.getCollisionSprites()) {
+                sprite.getMask();
+            }
+            for (Sprite sprite : sprites) {
+                sprite.preload();
+                ready.add(sprite);
+            }
+        }, "asset-preloader");
+        preloader.setDaemon(true);
+        preloader.start();
+    }
+
+    /**
+     * Creates the images of up to UPLOADS_PER_FRAME preloaded sprites, returns nothing. Called at a frame
+     * boundary from the thread drawing the window.
+     * @return void
+     */
+    public void uploadReady() {
+        for (int i = 0; i < UPLOADS_PER_FRAME; i++) {
+            Sprite sprite = ready.poll();
+            if (sprite == null) {
+                return;
+            }
+            sprite.acquire();
+        }
+    }
+
+    /**
+     * Waits for the preloading thread, then creates the images of every sprite still queued, so that a
+     * preloaded level starting early is fully loaded before its first frame, returns nothing. Called from the
+     * thread drawing the window.
+     * @return void
+     */
+    public void finishPreload() {
+        if (preloader != null) {
+            try {
+                preloader.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        for (Sprite sprite = ready.poll(); sprite != null; sprite = ready.poll()) {
+            sprite.acquire();
+        }
+    }
+
+    /**
+     * Determines whether every preloaded sprite has been uploaded.
+     * @return boolean Returns true if nothing is left to preload or upload, and false otherwise.
+     */
+    public boolean isIdle() {
+        return (preloader == null || !preloader.isAlive()) && ready.isEmpty();
+    }
+}
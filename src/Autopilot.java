@@ -0,0 +1,346 @@
+/**
+ * Represents a player which decides each tick's controls by searching ahead through a headless copy of the
+ * session. A beam of the most promising futures is advanced a few ticks at a time, branching on whether to
+ * flap and shoot, until the time budget runs out or the horizon is reached, and the first controls of the
+ * best future are played. Futures reaching the same discretized state at the same depth are only expanded
+ * once, tracked by a transposition table. As an InputSource, each tick is searched within the set budget.
+ * Running it directly plays Level 1 at the maximum timescale headlessly, over and over, as a soak test:
+ * <pre>java Autopilot [minutes] [budget ms]</pre>
+ */
+public class Autopilot implements InputSource {
+    // Search shape
+    private static final int STEP_TICKS = 6;
+    private static final int HORIZON_TICKS = 360;
+    private static final int BEAM_WIDTH = 12;
+    private static final int[] ACTIONS = {Controls.NONE, Controls.FLAP, Controls.SHOOT,
+            Controls.FLAP | Controls.SHOOT};
+    private static final int NO_SHOOT_ACTIONS = 2;
+
+    // Evaluation
+    private static final double LOST = -1e9;
+    private static final double WON = 1e9;
+    private static final double LIFE = 1e5;
+    private static final double POINT = 1e3;
+    private static final double DEPTH = 1e4;
+
+    // Transposition table
+    private static final int TABLE_SIZE = 1 << 14;
+    private static final int MAX_PROBES = 8;
+    private static final double Y_BUCKET = 2;
+    private static final double VELOCITY_BUCKET = 0.5;
+
+    // Bits given to each field of a table key, with offsets so that negative buckets fit
+    private static final int DEPTH_BITS = 7;
+    private static final int Y_BITS = 11;
+    private static final long Y_OFFSET = 1L << (Y_BITS - 1);
+    private static final int VELOCITY_BITS = 7;
+    private static final long VELOCITY_OFFSET = 1L << (VELOCITY_BITS - 1);
+    private static final int LIVES_BITS = 4;
+    private static final int SCORE_BITS = 8;
+    private static final int COUNT_BITS = 6;
+    private static final int FLAG_BITS = 1;
+    private static final long UNPACKABLE = -1;
+
+    // Soak test
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+    private static final long NANOS_PER_MINUTE = 60_000_000_000L;
+    private static final int SOAK_LEVEL = 1;
+
+    private final GameSession simulation;
+    private final WorldSnapshot root;
+    private WorldSnapshot[] beam;
+    private WorldSnapshot[] candidates;
+    private double[] beamScores;
+    private double[] candidateScores;
+    private int[] beamActions;
+    private int[] candidateActions;
+    private final long[] tableKeys;
+    private final int[] tableStamps;
+    private int stamp;
+    private int beamSize;
+    private int candidateCount;
+    private long expansions;
+    private long budgetNanos;
+
+    /**
+     * Takes in budgetNanos, and instantiates an Autopilot.
+     * @param budgetNanos long, the time each tick's search may take, in nanoseconds.
+     */
+    public Autopilot(long budgetNanos) {
+        this.simulation = new GameSession(0);
+        this.root = new WorldSnapshot();
+        this.beam = new WorldSnapshot[BEAM_WIDTH];
+        this.candidates = new WorldSnapshot[BEAM_WIDTH];
+        for (int i = 0; i < BEAM_WIDTH; i++) {
+            beam[i] = new WorldSnapshot();
+            candidates[i] = new WorldSnapshot();
+        }
+        this.beamScores = new double[BEAM_WIDTH];
+        this.candidateScores = new double[BEAM_WIDTH];
+        this.beamActions = new int[BEAM_WIDTH];
+        this.candidateActions = new int[BEAM_WIDTH];
+        this.tableKeys = new long[TABLE_SIZE];
+        this.tableStamps = new int[TABLE_SIZE];
+        this.stamp = 0;
+        this.expansions = 0;
+        this.budgetNanos = budgetNanos;
+    }
+
+    /**
+     * Takes in session, and decides its next tick's controls within the budget.
+     * @param session GameSession object to decide for.
+     * @return int The controls to play.
+     */
+    @Override
+    public int nextControls(GameSession session) {
+        return decide(session, budgetNanos);
+    }
+
+    /**
+     * Sets the time each tick's search may take.
+     * @param budgetNanos long, the budget in nanoseconds.
+     * @return void
+     */
+    public void setBudgetNanos(long budgetNanos) {
+        this.budgetNanos = budgetNanos;
+    }
+
+    /**
+     * Takes in session and budgetNanos, and decides the controls to play for the session's next tick,
+     * without changing the session.
+     * @param session GameSession object to decide for.
+     * @param budgetNanos long, the time the search may take, in nanoseconds.
+     * @return int The controls to play.
+     */
+    public int decide(GameSession session, long budgetNanos) {
+        long deadline = System.nanoTime() + budgetNanos;
+
+        // Nothing to search before a level starts or once the game is over
+        if (!session.getIsGameRunning()) {
+            return Controls.FLAP;
+        }
+        if (session.getIsGameOver() || session.getLevel().getIsLevelCompleted()) {
+            return Controls.NONE;
+        }
+
+        session.save(root);
+        stamp++;
+        beamSize = 0;
+        int bestAction = Controls.NONE;
+
+        for (int depth = 1; depth * STEP_TICKS <= HORIZON_TICKS; depth++) {
+            candidateCount = 0;
+            if (depth == 1) {
+                expand(root, Controls.NONE, depth);
+            } else {
+                for (int i = 0; i < beamSize && System.nanoTime() < deadline; i++) {
+                    expand(beam[i], beamActions[i], depth);
+                }
+            }
+            if (candidateCount == 0) {
+                break;
+            }
+
+            // Candidates become the beam
+            WorldSnapshot[] snapshots = beam;
+            beam = candidates;
+            candidates = snapshots;
+            double[] scores = beamScores;
+            beamScores = candidateScores;
+            candidateScores = scores;
+            int[] actions = beamActions;
+            beamActions = candidateActions;
+            candidateActions = actions;
+            beamSize = candidateCount;
+
+            bestAction = beamActions[best()];
+            if (System.nanoTime() >= deadline) {
+                break;
+            }
+        }
+        return bestAction;
+    }
+
+    /**
+     * Gets the number of futures expanded so far, for measuring the search.
+     * @return long The number of expansions across all decisions.
+     */
+    public long getExpansions() {
+        return expansions;
+    }
+
+    private void expand(WorldSnapshot from, int firstAction, int depth) {
+        simulation.restore(from);
+        if (simulation.getIsGameOver()) {
+            return;
+        }
+        int actionCount = simulation.getBird().getWeapon() != null ? ACTIONS.length : NO_SHOOT_ACTIONS;
+        for (int a = 0; a < actionCount; a++) {
+            if (a > 0) {
+                simulation.restore(from);
+            }
+            simulation.update(ACTIONS[a]);
+            for (int tick = 1; tick < STEP_TICKS && !simulation.getIsGameOver(); tick++) {
+                simulation.update(Controls.NONE);
+            }
+            expansions++;
+
+            if (!isNew(depth)) {
+                continue;
+            }
+            offer(evaluate(depth), depth == 1 ? ACTIONS[a] : firstAction);
+        }
+    }
+
+    // Keeps the candidate if it is among the best BEAM_WIDTH seen at this depth
+    private void offer(double score, int firstAction) {
+        int slot;
+        if (candidateCount < BEAM_WIDTH) {
+            slot = candidateCount++;
+        } else {
+            slot = 0;
+            for (int i = 1; i < BEAM_WIDTH; i++) {
+                if (candidateScores[i] < candidateScores[slot]) {
+                    slot = i;
+                }
+            }
+            if (candidateScores[slot] >= score) {
+                return;
+            }
+        }
+        simulation.save(candidates[slot]);
+        candidateScores[slot] = score;
+        candidateActions[slot] = firstAction;
+    }
+
+    private int best() {
+        int best = 0;
+        for (int i = 1; i < beamSize; i++) {
+            if (beamScores[i] > beamScores[best]) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    private double evaluate(int depth) {
+        Bird bird = simulation.getBird();
+        if (simulation.getIsGameOver()) {
+            return simulation.getIsWon() ? WON : LOST + depth * DEPTH;
+        }
+        if (simulation.getLevel().getIsLevelCompleted()) {
+            return WON;
+        }
+
+        // Prefer lives, then points, then being near the centre of the next gap
+        double target = Viewport.HEIGHT / 2.0;
+        EntityDeque<Pipes> pipes = simulation.getPipes();
+        for (int i = pipes.size() - 1; i >= 0; i--) {
+            Pipes pipe = pipes.get(i);
+            if (pipe.getTopPipe().right() >= bird.getBird().left()) {
+                target = (pipe.getTopPipe().bottom() + pipe.getBottomPipe().top()) / 2;
+                break;
+            }
+        }
+        return bird.getLives() * LIFE + simulation.getScore() * POINT - Math.abs(bird.getBird().centreY() - target);
+    }
+
+    // Records the discretized state, returning false if it was already reached at this depth. Each field has
+    // its own bits of the key, so only equal states share a key, and states with a field out of range are
+    // always treated as new rather than risk being merged with another.
+    private boolean isNew(int depth) {
+        Bird bird = simulation.getBird();
+        long key = pack(0, depth, DEPTH_BITS);
+        key = pack(key, (long) Math.floor(bird.getBird().top() / Y_BUCKET) + Y_OFFSET, Y_BITS);
+        key = pack(key, (long) Math.floor(bird.getVelocity() / VELOCITY_BUCKET) + VELOCITY_OFFSET, VELOCITY_BITS);
+        key = pack(key, bird.getLives(), LIVES_BITS);
+        key = pack(key, simulation.getScore(), SCORE_BITS);
+        key = pack(key, simulation.getPipes().size(), COUNT_BITS);
+        key = pack(key, simulation.getWeapons().size(), COUNT_BITS);
+        key = pack(key, bird.getWeapon() != null ? 1 : 0, FLAG_BITS);
+        if (key == UNPACKABLE) {
+            return true;
+        }
+
+        int index = (int) (mix(key) & (TABLE_SIZE - 1));
+        for (int probe = 0; probe < MAX_PROBES; probe++) {
+            int slot = (index + probe) & (TABLE_SIZE - 1);
+            if (tableStamps[slot] != stamp) {
+                tableStamps[slot] = stamp;
+                tableKeys[slot] = key;
+                return true;
+            }
+            if (tableKeys[slot] == key) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Appends value to the key within bits, or gives UNPACKABLE if either is out of range
+    private static long pack(long key, long value, int bits) {
+        if (key == UNPACKABLE || value < 0 || value >= (1L << bits)) {
+            return UNPACKABLE;
+        }
+        return (key << bits) | value;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        return z ^ (z >>> 33);
+    }
+
+    /**
+     * The entry point for the soak test, which plays through to Level 1 at the maximum timescale and keeps
+     * playing new sessions until the time is up, reporting every minute.
+     * @param args String[], optionally the minutes to run for, then the search budget per tick in milliseconds.
+     * @return void
+     */
+    public static void main(String[] args) {
+        long minutes = args.length > 0 ? Long.parseLong(args[0]) : 1;
+        long budget = (args.length > 1 ? Long.parseLong(args[1]) : 2) * NANOS_PER_MILLI;
+
+        Autopilot autopilot = new Autopilot(budget);
+        long start = System.nanoTime(), end = start + minutes * NANOS_PER_MINUTE;
+        long nextReport = start + NANOS_PER_MINUTE, ticks = 0, slowest = 0;
+        int sessions = 0, won = 0, lost = 0, bestScore = 0;
+        GameSession session = new GameSession();
+
+        while (System.nanoTime() < end) {
+            if (session.getIsGameOver()) {
+                sessions++;
+                if (session.getIsWon()) {
+                    won++;
+                } else {
+                    lost++;
+                }
+                session = new GameSession();
+            }
+
+            long before = System.nanoTime();
+            int controls = autopilot.nextControls(session);
+            slowest = Math.max(slowest, System.nanoTime() - before);
+
+            // Hold speed up once on the soak level
+            if (session.getIsGameRunning() && session.getLevel() instanceof Level1 &&
+                    session.getTimeScale().getTimeScale() < TimeScalable.TIMESCALE_MAX) {
+                controls |= Controls.SPEED_UP;
+            }
+            session.update(controls);
+            ticks++;
+            if (session.getLevel() instanceof Level1) {
+                bestScore = Math.max(bestScore, session.getScore());
+            }
+
+            if (System.nanoTime() >= nextReport) {
+                nextReport += NANOS_PER_MINUTE;
+                System.out.printf("%d ticks, %d sessions (%d won, %d lost), best level %d score %d, " +
+                                "%.1f expansions per tick, slowest decision %.2f ms%n", ticks, sessions, won, lost,
+                        SOAK_LEVEL, bestScore, (double) autopilot.getExpansions() / ticks,
+                        (double) slowest / NANOS_PER_MILLI);
+            }
+        }
+        System.out.printf("Finished: %d ticks, %d sessions (%d won, %d lost), best level %d score %d%n", ticks,
+                sessions, won, lost, SOAK_LEVEL, bestScore);
+    }
+}
@@ -1,33 +1,31 @@
-import bagel.Image;
 import bagel.util.Point;
-import bagel.util.Rectangle;
 
 /**
- * Produces a background object with a provided Image, with drawing functionality.
+ * Produces a background object with a provided Sprite, with drawing functionality.
  */
 public class Background implements Drawable {
     private final Point BG_POINT = new Point(0, 0);
-    private Image background;
-    private Rectangle backgroundBorder;
+    private Sprite background;
+    private Hitbox backgroundBorder;
 
     /**
-     * Takes in Image, sets Image as the background, and generates a rectangle
+     * Takes in Sprite, sets Sprite as the background, and generates a rectangle
      * stored within the class.
-     * @param image Image object to be set as the background.
+     * @param image Sprite object to be set as the background.
      */
-    public Background(Image image) {
+    public Background(Sprite image) {
         background = image;
-        backgroundBorder = background.getBoundingBox();
+        backgroundBorder = new Hitbox(BG_POINT.x, BG_POINT.y, background.getWidth(), background.getHeight());
     }
 
     /**
-     * Takes in bird, Bird's rectangle, and determines whether the bird is outside of the
+     * Takes in bird, Bird's hitbox, and determines whether the bird is outside of the
      * background area, and if so, returns True, and false otherwise.
-     * @param bird Rectangle object representing the bird.
+     * @param bird Bird object, whose hitbox is checked.
      * @return boolean
      */
     public boolean isOutOfBounds(Bird bird) {
-        if (!backgroundBorder.intersects(bird.getBird())) {
+        if (isOutOfBounds(bird.getBird())) {
             bird.respawn();
             return true;
         }
@@ -35,11 +33,21 @@ public class Background implements Drawable {
     }
 
     /**
-     * Draws background to the window, returns nothing.
+     * Takes in hitbox, and determines whether none of it lies within the background area.
+     * @param hitbox Hitbox object to check.
+     * @return boolean Returns true if the hitbox is out of bounds, and false otherwise.
+     */
+    public boolean isOutOfBounds(Hitbox hitbox) {
+        return !backgroundBorder.intersects(hitbox);
+    }
+
+    /**
+     * Takes in queue, and draws background to the window, returns nothing.
+     * @param queue RenderQueue object, drawn to the window once the frame is complete.
      * @return void
      */
     @Override
-    public void draw() {
-        background.drawFromTopLeft(BG_POINT.x, BG_POINT.y);
+    public void draw(RenderQueue queue) {
+        queue.submitFromTopLeft(RenderQueue.BACKGROUND, background, BG_POINT.x, BG_POINT.y);
     }
 }
@@ -1,9 +1,3 @@
-import bagel.Image;
-import bagel.Input;
-import bagel.util.Point;
-import bagel.util.Rectangle;
-import java.util.LinkedList;
-
 /*
 // Packages for testing, uncomment to enable grid lines
  import bagel.Drawing;
@@ -14,19 +8,19 @@ import java.util.LinkedList;
 /**
  * Represents a bird, allowing bird to move, draw, attack, take damage, and detect if it went through pipes.
  */
-public class Bird extends ControllableObject implements Drawable, Damageable<Integer>, Attacker {
+public class Bird extends ControllableObject implements Drawable, Interpolable, Damageable<Integer>, Attacker {
     // movement characteristics
     private final int FLAP_SWITCH = 10;
-    private final int BIRD_CENTRE_X = 200;
-    private final int BIRD_SPAWN_CENTRE_Y = 350;
-    private final double BIRD_ACCELERATION = 0.4;
-    private final int MAX_VELOCITY = 10;
-    private final int JUMP_VELOCITY = -6;
+    public static final int BIRD_CENTRE_X = 200;
+    public static final int BIRD_SPAWN_CENTRE_Y = 350;
+    public static final double BIRD_ACCELERATION = 0.4;
+    public static final int MAX_VELOCITY = 10;
+    public static final int JUMP_VELOCITY = -6;
     private final int RESET = 0;
 
     // images
-    private final Image BIRD_WING_DOWN;
-    private final Image BIRD_WING_UP;
+    private final Sprite BIRD_WING_DOWN;
+    private final Sprite BIRD_WING_UP;
 
     // dimensions
     private final double BIRD_WIDTH;
@@ -35,27 +29,30 @@ public class Bird extends ControllableObject implements Drawable, Damageable<Int
     // dynamic tracking
     private double birdCentreY;
     private int wingCounter;
-    private Point topLeft;
+    private double birdLeft;
 
     // Level
     private boolean isAlive;
 
-    // Collision use
-    private Rectangle bird;
+    // Collision use, with the mask following the wing frame drawn
+    private final CollisionMask WING_DOWN_MASK;
+    private final CollisionMask WING_UP_MASK;
+    private Hitbox bird;
     private LifeBar lifeBar;
+    private DamageListener damageListener;
 
     // Weapon
     private Weapon weapon;
     private boolean isPickedUp;
 
     /**
-     * Initialises the Bird with default values, by taking in the birdWingDown and birdWingUp Images, in addition
+     * Initialises the Bird with default values, by taking in the birdWingDown and birdWingUp Sprites, in addition
      * to the maxLives.
-     * @param birdWingDown Image object for bird wing down.
-     * @param birdWingUp Image object for bird wing up.
+     * @param birdWingDown Sprite object for bird wing down.
+     * @param birdWingUp Sprite object for bird wing up.
      * @param maxLife integer, specifying the max number of lives the bird should have.
      */
-    public Bird(Image birdWingDown, Image birdWingUp, int maxLife) {
+    public Bird(Sprite birdWingDown, Sprite birdWingUp, int maxLife) {
         super();
 
         // Images
@@ -68,13 +65,16 @@ public class Bird extends ControllableObject implements Drawable, Damageable<Int
 
         // Initial position
         this.wingCounter = 0;
-        this.topLeft = new Point(BIRD_CENTRE_X - BIRD_WIDTH / 2, BIRD_SPAWN_CENTRE_Y - BIRD_HEIGHT / 2);
+        this.birdLeft = BIRD_CENTRE_X - BIRD_WIDTH / 2;
         this.birdCentreY = BIRD_SPAWN_CENTRE_Y;
-        this.bird = new Rectangle(topLeft, BIRD_WIDTH, BIRD_HEIGHT);
+        this.WING_DOWN_MASK = birdWingDown.getMask();
+        this.WING_UP_MASK = birdWingUp.getMask();
+        this.bird = new Hitbox(birdLeft, BIRD_SPAWN_CENTRE_Y - BIRD_HEIGHT / 2, WING_UP_MASK);
 
         // Lives
         lifeBar = new LifeBar(maxLife);
         this.isAlive = true;
+        this.damageListener = null;
 
         // Weapon
         this.weapon = null;
@@ -97,11 +97,12 @@ public class Bird extends ControllableObject implements Drawable, Damageable<Int
     }
 
     /**
-     * Draws lifebar to the window, returns nothing.
+     * Takes in queue, and draws lifebar to the window, returns nothing.
+     * @param queue RenderQueue object, drawn to the window once the frame is complete.
      * @return void
      */
-    public void drawLifeBar() {
-        lifeBar.draw();
+    public void drawLifeBar(RenderQueue queue) {
+        lifeBar.draw(queue);
     }
 
     /**
@@ -124,21 +125,46 @@ public class Bird extends ControllableObject implements Drawable, Damageable<Int
     }
 
     /**
-     * Draws bird based on positioning and flaps every FLAP_SWITCH frames, returns nothing.
+     * Advances the wing animation, flapping every FLAP_SWITCH frames, returns nothing.
      * @return void
      */
-    @Override
-    public void draw() {
-        // Wing up
+    public void flapWings() {
         if (wingCounter == FLAP_SWITCH) {
             setWingCounter(RESET);
-            BIRD_WING_UP.draw(bird.centre().x, bird.centre().y);
+        } else {
+            setWingCounter(wingCounter + 1);
+        }
+    }
+
+    /**
+     * Takes in queue, and draws bird based on positioning and the wing animation, returns nothing.
+     * @param queue RenderQueue object, drawn to the window once the frame is complete.
+     * @return void
+     */
+    @Override
+    public void draw(RenderQueue queue) {
+        draw(queue, CURRENT);
+    }
+
+    /**
+     * Takes in queue and alpha, and draws bird between its previous and current positions based on the wing
+     * animation, returns nothing.
+     * @param queue RenderQueue object, drawn to the window once the frame is complete.
+     * @param alpha double, from 0 for the previous position to 1 for the current position.
+     * @return void
+     */
+    @Override
+    public void draw(RenderQueue queue, double alpha) {
+        double centreY = bird.interpolatedTop(alpha) + BIRD_HEIGHT / 2;
+
+        // Wing up
+        if (wingCounter == RESET) {
+            queue.submit(RenderQueue.BIRDS, BIRD_WING_UP, bird.centreX(), centreY);
         }
 
         // Wing down
         else {
-            BIRD_WING_DOWN.draw(bird.centre().x, bird.centre().y);
-            setWingCounter(wingCounter + 1);
+            queue.submit(RenderQueue.BIRDS, BIRD_WING_DOWN, bird.centreX(), centreY);
         }
 
         /*
@@ -148,14 +174,29 @@ public class Bird extends ControllableObject implements Drawable, Damageable<Int
          */
     }
 
+    /**
+     * Takes in queue and centreY, and draws a bird with this bird's images and wing animation at the height
+     * given instead of its own, used to draw many birds sharing one animation, returns nothing.
+     * @param queue RenderQueue object, drawn to the window once the frame is complete.
+     * @param centreY double, the y value of the centre of the bird to draw.
+     * @return void
+     */
+    public void drawAt(RenderQueue queue, double centreY) {
+        if (wingCounter == RESET) {
+            queue.submit(RenderQueue.BIRDS, BIRD_WING_UP, bird.centreX(), centreY);
+        } else {
+            queue.submit(RenderQueue.BIRDS, BIRD_WING_DOWN, bird.centreX(), centreY);
+        }
+    }
+
     /**
      * Determines whether bird has passed pipes.
      * @param pipes Pipe object on which to determine if the bird crossed it.
      * @return boolean Returns true if passed and false otherwise.
      */
     public boolean throughPipes(Pipes pipes) {
-        if (bird.centre().x > pipes.getBottomPipe().topRight().x &&
-                bird.centre().x > pipes.getTopPipe().topRight().x) {
+        if (bird.centreX() > pipes.getBottomPipe().right() &&
+                bird.centreX() > pipes.getTopPipe().right()) {
             pipes.birdIsThrough();
             return true;
         }
@@ -164,28 +205,28 @@ public class Bird extends ControllableObject implements Drawable, Damageable<Int
 
 
     /**
-     * Returns the bird's rectangle.
-     * @return Rectangle
+     * Returns the bird's hitbox.
+     * @return Hitbox
      */
-    public Rectangle getBird() {
+    public Hitbox getBird() {
         return bird;
     }
 
     private void moveBirdRect() {
-        this.bird.moveTo(topLeft);
+        this.bird.sweepTo(birdLeft, birdCentreY - BIRD_HEIGHT / 2);
     }
 
     private void setWingCounter(int wingCounter) {
         this.wingCounter = wingCounter;
+        bird.setMask(wingCounter == RESET ? WING_UP_MASK : WING_DOWN_MASK);
     }
 
     private void setBirdY(double birdCentreY) {
         this.birdCentreY = birdCentreY;
-        this.topLeft = new Point(topLeft.x, birdCentreY - BIRD_HEIGHT / 2);
         moveBirdRect();
         /*
         // Bird debugging test
-        Drawing.drawRectangle(topLeft, BIRD_WIDTH, BIRD_HEIGHT, Colour.WHITE);
+        Drawing.drawRectangle(bird.left(), bird.top(), BIRD_WIDTH, BIRD_HEIGHT, Colour.WHITE);
          */
     }
 
@@ -208,7 +249,23 @@ public class Bird extends ControllableObject implements Drawable, Damageable<Int
      * @return void
      */
     public void respawn() {
-        setBirdY(BIRD_SPAWN_CENTRE_Y);
+        this.birdCentreY = BIRD_SPAWN_CENTRE_Y;
+        this.bird.moveTo(birdLeft, birdCentreY - BIRD_HEIGHT / 2);
+    }
+
+    /**
+     * Returns the bird to its spawn position with every life and no weapon, as when created, returns nothing.
+     * @return void
+     */
+    public void reset() {
+        resetVelocity();
+        setWingCounter(RESET);
+        this.birdCentreY = BIRD_SPAWN_CENTRE_Y;
+        this.bird.moveTo(birdLeft, birdCentreY - BIRD_HEIGHT / 2);
+        lifeBar.reset();
+        this.isAlive = true;
+        this.weapon = null;
+        this.isPickedUp = false;
     }
 
     /**
@@ -220,18 +277,28 @@ public class Bird extends ControllableObject implements Drawable, Damageable<Int
     }
 
     /**
-     * Checks whether the bird collides with the pipes, return nothing.
+     * Checks whether the bird collides with any of the pipes it overlaps, destroying the pipes collided with.
      * @param bird Bird object, on which to check the collision for.
-     * @param pipes LinkedList<Pipes> object, with pipes to check the collision for.
+     * @param collisions CollisionIndex object, with the pipes to check the collision for.
      * @param damage integer, the damage taken by the bird if a collision occurs.
-     * @return void
+     * @return boolean Returns true if a collision occurred, and false otherwise.
      */
-    public void collisionCheck(Bird bird, LinkedList<Pipes> pipes, int damage) {
+    public boolean collisionCheck(Bird bird, CollisionIndex collisions, int damage) {
+        boolean hasCollided = false;
+        int count = collisions.queryPipes(bird.getBird());
+
         // Collision check
-        if (pipes.getLast().hasCollided(bird.getBird())) {
-            bird.takeDamage(damage);
-            pipes.removeLast();
+        for (int i = 0; i < count && bird.getIsAlive(); i++) {
+            Pipes pipes = collisions.getPipeResult(i);
+            if (pipes.hasCollided(bird.getBird())) {
+                bird.reportDamage(pipes.hasCollidedBody(bird.getBird()) ? DamageCause.PIPE : DamageCause.FLAME,
+                        bird.getBird().centreX(), bird.getBird().centreY());
+                bird.takeDamage(damage);
+                pipes.perish();
+                hasCollided = true;
+            }
         }
+        return hasCollided;
     }
 
     /**
@@ -243,8 +310,10 @@ public class Bird extends ControllableObject implements Drawable, Damageable<Int
      * @return void
      */
     public void outOfBoundsCheck(Bird bird, Background background, int damage) {
-        // Out of bounds
+        // Out of bounds, noting the position before the bird is respawned
+        double x = bird.getBird().centreX(), y = bird.getBird().centreY();
         if (background.isOutOfBounds(bird)) {
+            bird.reportDamage(DamageCause.OUT_OF_BOUNDS, x, y);
             bird.takeDamage(damage);
             if (bird.getIsAlive()) {
                 bird.respawn();
@@ -280,16 +349,85 @@ public class Bird extends ControllableObject implements Drawable, Damageable<Int
 
     /**
      * Checks whether an attack is triggered.
-     * @param input Input object processing the key input.
+     * @param controls int, the controls pressed this frame.
      * @return boolean Returns true if an attack is triggered as true, and false otherwise.
      */
-    public boolean triggeredAttack(Input input) {
-        if (weapon != null && weapon.triggered(input)) {
+    public boolean triggeredAttack(int controls) {
+        if (weapon != null && weapon.triggered(controls)) {
             return true;
         }
         return false;
     }
 
+    /**
+     * Takes in snapshot and weapons, and writes the bird's state to it, including which of the weapons it
+     * holds, returns nothing.
+     * @param snapshot WorldSnapshot object to write to.
+     * @param weapons EntityDeque<Weapon>, the weapons within the level.
+     * @return void
+     */
+    public void save(WorldSnapshot snapshot, EntityDeque<Weapon> weapons) {
+        snapshot.putDouble(getVelocity());
+        snapshot.putDouble(birdCentreY);
+        snapshot.putInt(wingCounter);
+        snapshot.putBoolean(isAlive);
+        snapshot.putBoolean(isPickedUp);
+        bird.save(snapshot);
+        lifeBar.save(snapshot);
+
+        // Held weapon, by its position within the weapons
+        int held = -1;
+        for (int i = 0; i < weapons.size() && weapon != null; i++) {
+            if (weapons.get(i) == weapon) {
+                held = i;
+                break;
+            }
+        }
+        snapshot.putInt(held);
+    }
+
+    /**
+     * Takes in snapshot and weapons, and reads the bird's state back from it, returns nothing.
+     * @param snapshot WorldSnapshot object to read from.
+     * @param weapons EntityDeque<Weapon>, the weapons within the level, already restored.
+     * @return void
+     */
+    public void restore(WorldSnapshot snapshot, EntityDeque<Weapon> weapons) {
+        setVelocity(snapshot.getDouble());
+        this.birdCentreY = snapshot.getDouble();
+        setWingCounter(snapshot.getInt());
+        this.isAlive = snapshot.getBoolean();
+        this.isPickedUp = snapshot.getBoolean();
+        bird.restore(snapshot);
+        lifeBar.restore(snapshot);
+
+        int held = snapshot.getInt();
+        this.weapon = held < 0 ? null : weapons.get(held);
+    }
+
+    /**
+     * Takes in damageListener, to be told whenever the bird loses a life, returns nothing.
+     * @param damageListener DamageListener object, or null to stop reporting.
+     * @return void
+     */
+    public void setDamageListener(DamageListener damageListener) {
+        this.damageListener = damageListener;
+    }
+
+    private void reportDamage(int cause, double x, double y) {
+        if (damageListener != null) {
+            damageListener.damaged(cause, x, y);
+        }
+    }
+
+    /**
+     * Gets the number of lives left.
+     * @return int The lives left in the bird's life bar.
+     */
+    public int getLives() {
+        return lifeBar.getLives();
+    }
+
     /**
      * Returns the weapon stored by the Bird.
      * @return Weapon The weapon stored by the bird.
@@ -1,14 +1,19 @@
-import bagel.Image;
-import bagel.Window;
-
 /**
  * Represents a bomb, allowing the bomb to move with bird, detecting collision, and checking whether its
  * out of frame.
  */
 public class Bomb extends Weapon {
-    private static final Image BOMB = new Image("res/level-1/bomb.png");
+    private static final Sprite BOMB = new Sprite("res/level-1/bomb.png");
     private final int MAX_SHOT_DISTANCE_FRAMES = 50;
 
+    /**
+     * Gets the images used by bombs, for loading ahead of time.
+     * @return Sprite[] The images.
+     */
+    public static Sprite[] getSprites() {
+        return new Sprite[]{BOMB};
+    }
+
     /**
      * Takes in velocity and bombY, then instantiates a Bomb.
      * @param velocity double, the velocity which the bomb is travelling.
@@ -29,12 +34,16 @@ public class Bomb extends Weapon {
     }
 
     /**
-     * Draws weapon to the window, returns nothing.
+     * Takes in queue and alpha, and draws weapon to the window between its previous and current positions,
+     * returns nothing.
+     * @param queue RenderQueue object, drawn to the window once the frame is complete.
+     * @param alpha double, from 0 for the previous position to 1 for the current position.
      * @return void
      */
     @Override
-    public void draw() {
-        BOMB.drawFromTopLeft(getWeaponX(), getWeaponY());
+    public void draw(RenderQueue queue, double alpha) {
+        queue.submitFromTopLeft(RenderQueue.WEAPONS, BOMB, getWeapon().interpolatedLeft(alpha),
+                getWeapon().interpolatedTop(alpha));
     }
 
     /**
@@ -43,7 +52,7 @@ public class Bomb extends Weapon {
      */
     @Override
     public boolean isOutOfFrame() {
-        if ((getWeaponX() + BOMB.getWidth()) < 0 || (getWeaponX() > Window.getWidth())) {
+        if ((getWeaponX() + BOMB.getWidth()) < 0 || (getWeaponX() > Viewport.WIDTH)) {
             return true;
         }
         return false;
@@ -56,7 +65,7 @@ public class Bomb extends Weapon {
      */
     @Override
     public void moveWithBird(Bird bird) {
-        moveTo(bird.getBird().right(), bird.getBird().centre().y - BOMB.getHeight() / 2);
+        sweepTo(bird.getBird().right(), bird.getBird().centreY() - BOMB.getHeight() / 2);
     }
 
     /**
@@ -71,20 +80,11 @@ public class Bomb extends Weapon {
     }
 
     /**
-     * Checks whether a collision occurred between a pipe and a weapon.
-     * @param pipes Pipe object on which to check if a collision happened.
-     * @return boolean returns true if a collision occurred, and false otherwise.
+     * Gets the weapon's type.
+     * @return int The EntityType id of the weapon.
      */
     @Override
-    public boolean detectShotCollision(Pipes pipes) {
-        boolean pipeIsAlive = true;
-        // Check if collision occurs
-        if (pipes.getTopPipe().intersects(getWeapon()) ||
-                pipes.getBottomPipe().intersects(getWeapon())) {
-            // Pipe and weapon both take damage
-            pipeIsAlive = pipes.takeDamage(this);
-            perish();
-        }
-        return !pipeIsAlive;
+    public int getTypeId() {
+        return EntityType.BOMB;
     }
 }
@@ -0,0 +1,163 @@
+/**
+ * Represents a broadphase collision index along the scroll axis. Pipes and weapons are kept sorted by the
+ * left edge of the area swept during their last move, so a query only visits the entities whose horizontal
+ * extent overlaps the queried hitbox's, found by binary search, before the exact hitbox tests are run. As
+ * everything scrolls horizontally at the same speed, the order barely changes between frames and re-sorting
+ * is close to linear.
+ */
+public class CollisionIndex {
+    private static final int INITIAL_CAPACITY = 16;
+
+    // Pipes sorted by left edge
+    private Pipes[] pipes;
+    private double[] pipeLefts;
+    private int pipeCount;
+    private double maxPipeWidth;
+    private Pipes[] pipeResults;
+
+    // Weapons sorted by left edge
+    private Weapon[] weapons;
+    private double[] weaponLefts;
+    private int weaponCount;
+    private double maxWeaponWidth;
+    private Weapon[] weaponResults;
+
+    /**
+     * Instantiates an empty CollisionIndex.
+     */
+    public CollisionIndex() {
+        this.pipes = new Pipes[INITIAL_CAPACITY];
+        this.pipeLefts = new double[INITIAL_CAPACITY];
+        this.pipeResults = new Pipes[INITIAL_CAPACITY];
+        this.weapons = new Weapon[INITIAL_CAPACITY];
+        this.weaponLefts = new double[INITIAL_CAPACITY];
+        this.weaponResults = new Weapon[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Takes in the pipes at their current positions and indexes them, returns nothing.
+     * @param pipes EntityDeque<Pipes>, the pipes within the level.
+     * @return void
+     */
+    public void indexPipes(EntityDeque<Pipes> pipes) {
+        if (pipes.size() > this.pipes.length) {
+            int capacity = Math.max(pipes.size(), this.pipes.length << 1);
+            this.pipes = new Pipes[capacity];
+            this.pipeLefts = new double[capacity];
+            this.pipeResults = new Pipes[capacity];
+        }
+        pipeCount = pipes.size();
+        maxPipeWidth = 0;
+
+        // Oldest pipes are furthest left, so insert from the last end for an already sorted order
+        for (int i = 0; i < pipeCount; i++) {
+            Pipes pipe = pipes.get(pipeCount - 1 - i);
+            Hitbox extent = pipe.getTopPipe();
+            maxPipeWidth = Math.max(maxPipeWidth, extent.sweptRight() - extent.sweptLeft());
+            int j = i;
+            while (j > 0 && pipeLefts[j - 1] > extent.sweptLeft()) {
+                this.pipes[j] = this.pipes[j - 1];
+                pipeLefts[j] = pipeLefts[j - 1];
+                j--;
+            }
+            this.pipes[j] = pipe;
+            pipeLefts[j] = extent.sweptLeft();
+        }
+    }
+
+    /**
+     * Takes in the weapons at their current positions and indexes them, returns nothing.
+     * @param weapons EntityDeque<Weapon>, the weapons within the level.
+     * @return void
+     */
+    public void indexWeapons(EntityDeque<Weapon> weapons) {
+        if (weapons.size() > this.weapons.length) {
+            int capacity = Math.max(weapons.size(), this.weapons.length << 1);
+            this.weapons = new Weapon[capacity];
+            this.weaponLefts = new double[capacity];
+            this.weaponResults = new Weapon[capacity];
+        }
+        weaponCount = weapons.size();
+        maxWeaponWidth = 0;
+
+        for (int i = 0; i < weaponCount; i++) {
+            Weapon weapon = weapons.get(weaponCount - 1 - i);
+            Hitbox extent = weapon.getWeapon();
+            maxWeaponWidth = Math.max(maxWeaponWidth, extent.sweptRight() - extent.sweptLeft());
+            int j = i;
+            while (j > 0 && weaponLefts[j - 1] > extent.sweptLeft()) {
+                this.weapons[j] = this.weapons[j - 1];
+                weaponLefts[j] = weaponLefts[j - 1];
+                j--;
+            }
+            this.weapons[j] = weapon;
+            weaponLefts[j] = extent.sweptLeft();
+        }
+    }
+
+    /**
+     * Takes in a hitbox, and finds the indexed pipes whose horizontal extent overlaps it. The pipes found
+     * are read with getPipeResult.
+     * @param box Hitbox object to query with.
+     * @return int The number of pipes found.
+     */
+    public int queryPipes(Hitbox box) {
+        int count = 0;
+        for (int i = lowerBound(pipeLefts, pipeCount, box.sweptLeft() - maxPipeWidth);
+             i < pipeCount && pipeLefts[i] <= box.sweptRight(); i++) {
+            if (pipes[i].getTopPipe().sweptRight() >= box.sweptLeft()) {
+                pipeResults[count++] = pipes[i];
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Takes in i, and gets the ith pipe found by the last pipe query.
+     * @param i int, the position of the result.
+     * @return Pipes The pipe found.
+     */
+    public Pipes getPipeResult(int i) {
+        return pipeResults[i];
+    }
+
+    /**
+     * Takes in a hitbox, and finds the indexed weapons whose horizontal extent overlaps it. The weapons found
+     * are read with getWeaponResult.
+     * @param box Hitbox object to query with.
+     * @return int The number of weapons found.
+     */
+    public int queryWeapons(Hitbox box) {
+        int count = 0;
+        for (int i = lowerBound(weaponLefts, weaponCount, box.sweptLeft() - maxWeaponWidth);
+             i < weaponCount && weaponLefts[i] <= box.sweptRight(); i++) {
+            if (weapons[i].getWeapon().sweptRight() >= box.sweptLeft()) {
+                weaponResults[count++] = weapons[i];
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Takes in i, and gets the ith weapon found by the last weapon query.
+     * @param i int, the position of the result.
+     * @return Weapon The weapon found.
+     */
+    public Weapon getWeaponResult(int i) {
+        return weaponResults[i];
+    }
+
+    // First position with a left edge of at least min
+    private static int lowerBound(double[] lefts, int count, double min) {
+        int low = 0, high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (lefts[mid] < min) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
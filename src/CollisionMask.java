@@ -0,0 +1,195 @@
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import javax.imageio.ImageIO;
+
+/**
+ * Represents which pixels of an image are solid, one bit per pixel, so that collisions can ignore the
+ * transparent parts of images. Each row is packed into longs, lowest bit first, so two masks are compared
+ * 64 pixels at a time with a single AND.
+ */
+public class CollisionMask {
+    // Pixels at least half opaque are solid
+    private static final int ALPHA_SHIFT = 24;
+    private static final int ALPHA_MASK = 0xFF;
+    private static final int ALPHA_THRESHOLD = 128;
+    private static final int WORD_BITS = 64;
+    private static final int WORD_SHIFT = 6;
+    private static final int BIT_MASK = WORD_BITS - 1;
+    private static final int ERROR = -1;
+
+    private final int width;
+    private final int height;
+    private final int wordsPerRow;
+    private final long[] rows;
+    private boolean hasSolid;
+
+    private CollisionMask(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.wordsPerRow = (width + BIT_MASK) >>> WORD_SHIFT;
+        this.rows = new long[wordsPerRow * height];
+        this.hasSolid = false;
+    }
+
+    /**
+     * Takes in path, and creates the mask of a PNG image from its alpha channel.
+     * @param path String, the path of the PNG file.
+     * @return CollisionMask The mask of the image.
+     */
+    public static CollisionMask load(String path) {
+        BufferedImage image = null;
+        try {
+            image = ImageIO.read(new File(path));
+        } catch (IOException e) {
+            image = null;
+        }
+        if (image == null) {
+            System.out.println("Error - unable to read image: " + path);
+            System.exit(ERROR);
+        }
+
+        CollisionMask mask = new CollisionMask(image.getWidth(), image.getHeight());
+        for (int y = 0; y < mask.height; y++) {
+            for (int x = 0; x < mask.width; x++) {
+                if (((image.getRGB(x, y) >>> ALPHA_SHIFT) & ALPHA_MASK) >= ALPHA_THRESHOLD) {
+                    mask.rows[y * mask.wordsPerRow + (x >>> WORD_SHIFT)] |= 1L << (x & BIT_MASK);
+                    mask.hasSolid = true;
+                }
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Creates the mask of the image turned half a circle, as drawn with a rotation of 180 degrees.
+     * @return CollisionMask The rotated mask.
+     */
+    public CollisionMask rotated() {
+        CollisionMask mask = new CollisionMask(width, height);
+        mask.hasSolid = hasSolid;
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                if (isSolid(x, y)) {
+                    int rotatedX = width - 1 - x, rotatedY = height - 1 - y;
+                    mask.rows[rotatedY * wordsPerRow + (rotatedX >>> WORD_SHIFT)] |= 1L << (rotatedX & BIT_MASK);
+                }
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Determines whether a pixel is solid.
+     * @param x int, the column of the pixel.
+     * @param y int, the row of the pixel.
+     * @return boolean Returns true if the pixel is within the mask and solid, and false otherwise.
+     */
+    public boolean isSolid(int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) {
+            return false;
+        }
+        return (rows[y * wordsPerRow + (x >>> WORD_SHIFT)] & (1L << (x & BIT_MASK))) != 0;
+    }
+
+    /**
+     * Takes in other and its offset, and determines whether any solid pixels of the two masks overlap.
+     * @param other CollisionMask object to check against.
+     * @param offsetX int, the column of this mask at which the other mask's left edge lies.
+     * @param offsetY int, the row of this mask at which the other mask's top edge lies.
+     * @return boolean Returns true if the masks overlap, and false otherwise.
+     */
+    public boolean overlaps(CollisionMask other, int offsetX, int offsetY) {
+        int fromX = Math.max(0, offsetX), toX = Math.min(width, offsetX + other.width);
+        int fromY = Math.max(0, offsetY), toY = Math.min(height, offsetY + other.height);
+        if (fromX >= toX || fromY >= toY) {
+            return false;
+        }
+
+        int fromWord = fromX >>> WORD_SHIFT, toWord = (toX - 1) >>> WORD_SHIFT;
+        for (int y = fromY; y < toY; y++) {
+            int row = y * wordsPerRow;
+            int otherY = y - offsetY;
+            for (int word = fromWord; word <= toWord; word++) {
+                if ((rows[row + word] & other.bitsAt(otherY, (word << WORD_SHIFT) - offsetX)) != 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Takes in the edges of a region, and determines whether any solid pixels lie within it.
+     * @param left int, the first column of the region.
+     * @param top int, the first row of the region.
+     * @param right int, the column after the last of the region.
+     * @param bottom int, the row after the last of the region.
+     * @return boolean Returns true if a solid pixel lies within the region, and false otherwise.
+     */
+    public boolean overlapsRegion(int left, int top, int right, int bottom) {
+        left = Math.max(0, left);
+        top = Math.max(0, top);
+        right = Math.min(width, right);
+        bottom = Math.min(height, bottom);
+        if (left >= right || top >= bottom) {
+            return false;
+        }
+
+        // Regions covering the whole mask, such as the background border, need no scan
+        if (left == 0 && top == 0 && right == width && bottom == height) {
+            return hasSolid;
+        }
+
+        int fromWord = left >>> WORD_SHIFT, toWord = (right - 1) >>> WORD_SHIFT;
+        for (int y = top; y < bottom; y++) {
+            int row = y * wordsPerRow;
+            for (int word = fromWord; word <= toWord; word++) {
+                long columns = -1L;
+                if (word == fromWord) {
+                    columns &= -1L << (left & BIT_MASK);
+                }
+                if (word == toWord) {
+                    columns &= -1L >>> (BIT_MASK - ((right - 1) & BIT_MASK));
+                }
+                if ((rows[row + word] & columns) != 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    // The 64 pixels of a row starting at a column, which may lie partly outside the mask
+    private long bitsAt(int y, int x) {
+        if (x >= width || x <= -WORD_BITS) {
+            return 0;
+        }
+        int row = y * wordsPerRow;
+        if (x < 0) {
+            return rows[row] << -x;
+        }
+        int word = x >>> WORD_SHIFT, shift = x & BIT_MASK;
+        long bits = rows[row + word] >>> shift;
+        if (shift != 0 && word + 1 < wordsPerRow) {
+            bits |= rows[row + word + 1] << (WORD_BITS - shift);
+        }
+        return bits;
+    }
+
+    /**
+     * Gets the width of the mask.
+     * @return int The width in pixels.
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Gets the height of the mask.
+     * @return int The height in pixels.
+     */
+    public int getHeight() {
+        return height;
+    }
+}
@@ -34,4 +34,8 @@ public abstract class ControllableObject implements Movable {
     protected void setVelocity(double velocity) {
         this.velocity = velocity;
     }
+
+    protected void resetVelocity() {
+        this.velocity = DEFAULT_INITIAL_VELOCITY;
+    }
 }
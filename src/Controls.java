@@ -0,0 +1,68 @@
+import bagel.Input;
+import bagel.Keys;
+
+/**
+ * Represents the keys read by the game within a single frame, packed into an integer bitmask so that
+ * the game logic can be driven without a bagel Input.
+ */
+public final class Controls {
+    /**
+     * No keys pressed.
+     */
+    public static final int NONE = 0;
+
+    /**
+     * Flap, also used to start a level (SPACE).
+     */
+    public static final int FLAP = 1;
+
+    /**
+     * Shoot the picked up weapon (S).
+     */
+    public static final int SHOOT = 1 << 1;
+
+    /**
+     * Slow down the timescale (K).
+     */
+    public static final int SLOW_DOWN = 1 << 2;
+
+    /**
+     * Speed up the timescale (L).
+     */
+    public static final int SPEED_UP = 1 << 3;
+
+    private Controls() {
+    }
+
+    /**
+     * Takes in input, and packs the keys pressed this frame into a bitmask.
+     * @param input Input object from which to detect key commands.
+     * @return int The controls pressed this frame.
+     */
+    public static int poll(Input input) {
+        int controls = NONE;
+        if (input.wasPressed(Keys.SPACE)) {
+            controls |= FLAP;
+        }
+        if (input.wasPressed(Keys.S)) {
+            controls |= SHOOT;
+        }
+        if (input.wasPressed(Keys.K)) {
+            controls |= SLOW_DOWN;
+        }
+        if (input.wasPressed(Keys.L)) {
+            controls |= SPEED_UP;
+        }
+        return controls;
+    }
+
+    /**
+     * Determines whether a control is pressed within the controls.
+     * @param controls int, the controls pressed this frame.
+     * @param control int, the control to check for.
+     * @return boolean Returns true if the control is pressed, and false otherwise.
+     */
+    public static boolean isPressed(int controls, int control) {
+        return (controls & control) != 0;
+    }
+}
@@ -0,0 +1,39 @@
+/**
+ * Represents the ways in which the bird can lose a life, as integer constants so that they can index
+ * per-cause counters.
+ */
+public final class DamageCause {
+    /**
+     * Flying into the body of a pipe.
+     */
+    public static final int PIPE = 0;
+
+    /**
+     * Flying into the flames of a steel pipe.
+     */
+    public static final int FLAME = 1;
+
+    /**
+     * Leaving the window.
+     */
+    public static final int OUT_OF_BOUNDS = 2;
+
+    /**
+     * The number of causes.
+     */
+    public static final int COUNT = 3;
+
+    private static final String[] NAMES = {"pipe", "flame", "out-of-bounds"};
+
+    private DamageCause() {
+    }
+
+    /**
+     * Takes in cause, and gets its name.
+     * @param cause int, one of the damage causes.
+     * @return String The name of the cause.
+     */
+    public static String getName(int cause) {
+        return NAMES[cause];
+    }
+}
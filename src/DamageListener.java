@@ -0,0 +1,13 @@
+/**
+ * Represents an observer of the bird losing lives, used to gather statistics without affecting the game.
+ */
+public interface DamageListener {
+    /**
+     * Takes in cause and the bird's centre, called whenever the bird loses a life, returns nothing.
+     * @param cause int, the DamageCause of the lost life.
+     * @param x double, the x value of the bird's centre when damaged.
+     * @param y double, the y value of the bird's centre when damaged.
+     * @return void
+     */
+    void damaged(int cause, double x, double y);
+}
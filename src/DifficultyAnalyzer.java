@@ -0,0 +1,181 @@
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Plays thousands of headless runs of a level at every timescale, spread across all cores, and reports how
+ * difficult the level is: how runs end, how long they survive, the scores reached, and where and how lives
+ * are lost. Each run is seeded from its index, so a report is reproducible regardless of scheduling.
+ * Run from the project root so that the images in res/ resolve:
+ * <pre>java DifficultyAnalyzer [--level 0|1] [--runs n] [--ticks n] [--policy scripted|random] [--seed n]</pre>
+ */
+public class DifficultyAnalyzer {
+    private static final int ERROR = -1;
+    private static final int RUNS_PER_TASK = 16;
+    private static final double NANOS_PER_SECOND = 1e9;
+
+    // Policies
+    private static final String SCRIPTED = "scripted";
+    private static final String RANDOM = "random";
+    private static final double AIM_JITTER = 20;
+    private static final int RANDOM_FLAP_ONE_IN = 12;
+    private static final int SHOOT_INTERVAL = 40;
+
+    // Settings
+    private int levelNumber = 1;
+    private int runs = 2000;
+    private int maxTicks = 36000;
+    private String policy = SCRIPTED;
+    private long seed = 0;
+
+    /**
+     * The entry point for the analyzer.
+     * @param args String[], the options described above.
+     * @return void
+     */
+    public static void main(String[] args) {
+        DifficultyAnalyzer analyzer = new DifficultyAnalyzer();
+        analyzer.parse(args);
+        analyzer.analyze();
+    }
+
+    private void parse(String[] args) {
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--level":
+                    levelNumber = Integer.parseInt(args[i + 1]);
+                    break;
+                case "--runs":
+                    runs = Integer.parseInt(args[i + 1]);
+                    break;
+                case "--ticks":
+                    maxTicks = Integer.parseInt(args[i + 1]);
+                    break;
+                case "--policy":
+                    policy = args[i + 1];
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(args[i + 1]);
+                    break;
+                default:
+                    usage();
+            }
+        }
+        if (args.length % 2 != 0 || (levelNumber != 0 && levelNumber != 1) ||
+                (!policy.equals(SCRIPTED) && !policy.equals(RANDOM))) {
+            usage();
+        }
+    }
+
+    private void usage() {
+        System.out.println("Usage: java DifficultyAnalyzer [--level 0|1] [--runs n] [--ticks n] " +
+                "[--policy scripted|random] [--seed n]");
+        System.exit(ERROR);
+    }
+
+    private void analyze() {
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        for (int timeScale = (int) TimeScalable.TIMESCALE_MIN; timeScale <= TimeScalable.TIMESCALE_MAX;
+             timeScale++) {
+            long start = System.nanoTime();
+            DifficultyStats stats = pool.invoke(new Batch(timeScale, 0, runs));
+            double elapsed = (System.nanoTime() - start) / NANOS_PER_SECOND;
+
+            System.out.printf("Level %d, timescale %d: %d runs of up to %d ticks, %s policy " +
+                    "(%.2f s on %d threads)%n", levelNumber, timeScale, stats.getRuns(), maxTicks, policy, elapsed,
+                    pool.getParallelism());
+            stats.print();
+            System.out.println();
+        }
+    }
+
+    /**
+     * Represents a range of runs, split in half until small enough to play on a single worker, whose
+     * statistics are merged as the halves join.
+     */
+    private class Batch extends RecursiveTask<DifficultyStats> {
+        private static final long serialVersionUID = 1L;
+        private final int timeScale;
+        private final int from;
+        private final int to;
+
+        private Batch(int timeScale, int from, int to) {
+            this.timeScale = timeScale;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected DifficultyStats compute() {
+            if (to - from <= RUNS_PER_TASK) {
+                DifficultyStats stats = new DifficultyStats();
+                for (int run = from; run < to; run++) {
+                    play(timeScale, run, stats);
+                }
+                return stats;
+            }
+            int middle = (from + to) >>> 1;
+            Batch left = new Batch(timeScale, from, middle);
+            left.fork();
+            DifficultyStats stats = new Batch(timeScale, middle, to).compute();
+            stats.merge(left.join());
+            return stats;
+        }
+    }
+
+    private void play(int timeScaleSetting, int run, DifficultyStats stats) {
+        GameRandom random = new GameRandom(seed + ((long) timeScaleSetting << Integer.SIZE) + run);
+        Level level = levelNumber == 0 ? new Level0(0, random.split()) : new Level1(0, random.split());
+        GameRandom policyRandom = random.split();
+
+        EntityDeque<Pipes> pipes = new EntityDeque<>();
+        EntityDeque<Weapon> weapons = new EntityDeque<>();
+        Bird bird = level.createBird();
+        Background background = level.createBackground();
+        TimeScale timeScale = new TimeScale();
+        for (int i = (int) TimeScalable.TIMESCALE_MIN; i < timeScaleSetting; i++) {
+            timeScale.timeScale(Controls.SPEED_UP);
+        }
+        bird.setDamageListener(stats);
+
+        int tick = 0;
+        while (tick < maxTicks && !level.getIsGameOver() && !level.getIsLevelCompleted()) {
+            level.update(decide(tick, pipes, bird, policyRandom), pipes, bird, weapons, background, timeScale);
+            tick++;
+        }
+
+        int outcome = level.getIsLevelCompleted() ? DifficultyStats.COMPLETED :
+                level.getIsGameOver() ? DifficultyStats.LOST : DifficultyStats.TIMED_OUT;
+        stats.recordRun(outcome, tick, level.getScore());
+    }
+
+    private int decide(int tick, EntityDeque<Pipes> pipes, Bird bird, GameRandom policyRandom) {
+        int controls = Controls.NONE;
+        if (policy.equals(RANDOM)) {
+            if (policyRandom.nextInt(RANDOM_FLAP_ONE_IN) == 0) {
+                controls |= Controls.FLAP;
+            }
+            if (policyRandom.nextInt(SHOOT_INTERVAL) == 0) {
+                controls |= Controls.SHOOT;
+            }
+            return controls;
+        }
+
+        // Aim for the centre of the oldest gap not yet passed, with some error
+        double target = Viewport.HEIGHT / 2.0;
+        for (int i = pipes.size() - 1; i >= 0; i--) {
+            Pipes pipe = pipes.get(i);
+            if (pipe.getTopPipe().right() >= bird.getBird().left()) {
+                target = (pipe.getTopPipe().bottom() + pipe.getBottomPipe().top()) / 2;
+                break;
+            }
+        }
+        target += (policyRandom.nextDouble() * 2 - 1) * AIM_JITTER;
+        if (bird.getBird().centreY() > target) {
+            controls |= Controls.FLAP;
+        }
+        if (tick % SHOOT_INTERVAL == 0) {
+            controls |= Controls.SHOOT;
+        }
+        return controls;
+    }
+}
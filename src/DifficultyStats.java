@@ -0,0 +1,206 @@
+import java.util.Arrays;
+
+/**
+ * Represents the statistics gathered over many headless runs of a level: how the runs ended, how long they
+ * survived, the scores reached, and where and how lives were lost. Each worker gathers its own statistics,
+ * which are merged once all runs are finished.
+ */
+public class DifficultyStats implements DamageListener {
+    // Outcomes
+    public static final int COMPLETED = 0;
+    public static final int LOST = 1;
+    public static final int TIMED_OUT = 2;
+    private static final String[] OUTCOME_NAMES = {"completed", "lost", "timed out"};
+
+    // Layout
+    private static final int SURVIVAL_BUCKET_TICKS = 60;
+    private static final int HEATMAP_CELL = 64;
+    private static final int HEATMAP_COLUMNS = Viewport.WIDTH / HEATMAP_CELL;
+    private static final int HEATMAP_ROWS = Viewport.HEIGHT / HEATMAP_CELL;
+    private static final String HEATMAP_SHADES = " .:-=+*#%@";
+    private static final int HISTOGRAM_BAR_WIDTH = 40;
+    private static final double[] PERCENTILES = {0.1, 0.25, 0.5, 0.75, 0.9};
+    private static final double PERCENT = 100;
+
+    private int runs;
+    private final int[] outcomes;
+    private int[] survival;
+    private int[] scores;
+    private final long[] livesLost;
+    private final long[] fatalCauses;
+    private final int[] heatmap;
+    private int lastCause;
+
+    /**
+     * Instantiates an empty DifficultyStats.
+     */
+    public DifficultyStats() {
+        this.runs = 0;
+        this.outcomes = new int[OUTCOME_NAMES.length];
+        this.survival = new int[1];
+        this.scores = new int[1];
+        this.livesLost = new long[DamageCause.COUNT];
+        this.fatalCauses = new long[DamageCause.COUNT];
+        this.heatmap = new int[HEATMAP_ROWS * HEATMAP_COLUMNS];
+        this.lastCause = DamageCause.PIPE;
+    }
+
+    /**
+     * Takes in cause and the bird's centre, and counts a lost life, returns nothing.
+     * @param cause int, the DamageCause of the lost life.
+     * @param x double, the x value of the bird's centre when damaged.
+     * @param y double, the y value of the bird's centre when damaged.
+     * @return void
+     */
+    @Override
+    public void damaged(int cause, double x, double y) {
+        livesLost[cause]++;
+        lastCause = cause;
+
+        // Out of bounds positions are clamped onto the border cells
+        int column = Math.min(Math.max((int) (x / HEATMAP_CELL), 0), HEATMAP_COLUMNS - 1);
+        int row = Math.min(Math.max((int) (y / HEATMAP_CELL), 0), HEATMAP_ROWS - 1);
+        heatmap[row * HEATMAP_COLUMNS + column]++;
+    }
+
+    /**
+     * Takes in outcome, ticks and score, and counts a finished run, returns nothing.
+     * @param outcome int, COMPLETED, LOST or TIMED_OUT.
+     * @param ticks int, the number of ticks the run lasted.
+     * @param score int, the score reached.
+     * @return void
+     */
+    public void recordRun(int outcome, int ticks, int score) {
+        runs++;
+        outcomes[outcome]++;
+        if (outcome == LOST) {
+            fatalCauses[lastCause]++;
+        }
+
+        int bucket = ticks / SURVIVAL_BUCKET_TICKS;
+        if (bucket >= survival.length) {
+            survival = Arrays.copyOf(survival, Math.max(bucket + 1, survival.length << 1));
+        }
+        survival[bucket]++;
+
+        if (score >= scores.length) {
+            scores = Arrays.copyOf(scores, Math.max(score + 1, scores.length << 1));
+        }
+        scores[score]++;
+    }
+
+    /**
+     * Takes in other, and adds its statistics to these, returns nothing.
+     * @param other DifficultyStats object to merge in.
+     * @return void
+     */
+    public void merge(DifficultyStats other) {
+        runs += other.runs;
+        add(outcomes, other.outcomes);
+        survival = add(survival, other.survival);
+        scores = add(scores, other.scores);
+        for (int i = 0; i < DamageCause.COUNT; i++) {
+            livesLost[i] += other.livesLost[i];
+            fatalCauses[i] += other.fatalCauses[i];
+        }
+        add(heatmap, other.heatmap);
+    }
+
+    /**
+     * Prints a report of the statistics, returns nothing.
+     * @return void
+     */
+    public void print() {
+        // Outcomes
+        StringBuilder line = new StringBuilder("  outcomes:");
+        for (int i = 0; i < outcomes.length; i++) {
+            line.append(String.format(" %s %.1f%%", OUTCOME_NAMES[i], PERCENT * outcomes[i] / Math.max(runs, 1)));
+        }
+        System.out.println(line);
+
+        // Survival
+        line = new StringBuilder("  survival ticks:");
+        for (double percentile : PERCENTILES) {
+            line.append(String.format(" p%d %d", Math.round(percentile * PERCENT), survivalPercentile(percentile)));
+        }
+        System.out.println(line);
+
+        // Causes
+        long totalLost = 0;
+        for (long lost : livesLost) {
+            totalLost += lost;
+        }
+        line = new StringBuilder("  lives lost:");
+        for (int i = 0; i < DamageCause.COUNT; i++) {
+            line.append(String.format(" %s %.1f%%", DamageCause.getName(i),
+                    PERCENT * livesLost[i] / Math.max(totalLost, 1)));
+        }
+        System.out.println(line);
+        line = new StringBuilder("  fatal:");
+        for (int i = 0; i < DamageCause.COUNT; i++) {
+            line.append(String.format(" %s %d", DamageCause.getName(i), fatalCauses[i]));
+        }
+        System.out.println(line);
+
+        // Scores
+        System.out.println("  scores:");
+        int maxCount = Math.max(max(scores), 1);
+        for (int score = 0; score < scores.length; score++) {
+            if (scores[score] > 0) {
+                System.out.printf("    %3d %-" + HISTOGRAM_BAR_WIDTH + "s %d%n", score,
+                        "#".repeat(Math.max(scores[score] * HISTOGRAM_BAR_WIDTH / maxCount, 1)), scores[score]);
+            }
+        }
+
+        // Heatmap
+        System.out.printf("  lives lost by position (%d px cells):%n", HEATMAP_CELL);
+        int maxCell = Math.max(max(heatmap), 1);
+        for (int row = 0; row < HEATMAP_ROWS; row++) {
+            line = new StringBuilder("    |");
+            for (int column = 0; column < HEATMAP_COLUMNS; column++) {
+                int count = heatmap[row * HEATMAP_COLUMNS + column];
+                int shade = count == 0 ? 0 : 1 + count * (HEATMAP_SHADES.length() - 2) / maxCell;
+                line.append(HEATMAP_SHADES.charAt(shade));
+            }
+            System.out.println(line.append('|'));
+        }
+    }
+
+    /**
+     * Gets the number of runs counted.
+     * @return int The number of runs.
+     */
+    public int getRuns() {
+        return runs;
+    }
+
+    // Upper bound of the survival bucket containing the percentile
+    private int survivalPercentile(double percentile) {
+        long target = (long) Math.ceil(percentile * runs), seen = 0;
+        for (int bucket = 0; bucket < survival.length; bucket++) {
+            seen += survival[bucket];
+            if (seen >= target && seen > 0) {
+                return (bucket + 1) * SURVIVAL_BUCKET_TICKS;
+            }
+        }
+        return survival.length * SURVIVAL_BUCKET_TICKS;
+    }
+
+    private static int[] add(int[] into, int[] from) {
+        if (from.length > into.length) {
+            into = Arrays.copyOf(into, from.length);
+        }
+        for (int i = 0; i < from.length; i++) {
+            into[i] += from[i];
+        }
+        return into;
+    }
+
+    private static int max(int[] values) {
+        int max = 0;
+        for (int value : values) {
+            max = Math.max(max, value);
+        }
+        return max;
+    }
+}
@@ -1,7 +1,8 @@
 public interface Drawable {
     /**
-     * Draws object to the window, returns nothing.
+     * Takes in queue, and submits the object's draws to it, returns nothing.
+     * @param queue RenderQueue object, drawn to the window once the frame is complete.
      * @return void
      */
-    void draw();
+    void draw(RenderQueue queue);
 }
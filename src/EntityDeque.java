@@ -0,0 +1,218 @@
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Represents an ordered collection of entities backed by a circular array. Entities spawn at the first end
+ * and leave from the last end, so both are O(1), and destroyed entities are removed with a single
+ * in-place, order-preserving compaction pass. No nodes are allocated per entity.
+ * @param <T> The type of entity stored.
+ */
+public class EntityDeque<T> implements Iterable<T> {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private Object[] entities;
+    private int head;
+    private int size;
+
+    /**
+     * Instantiates an empty EntityDeque with the default capacity.
+     */
+    public EntityDeque() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Takes in capacity, and instantiates an empty EntityDeque able to hold at least that many entities
+     * before growing.
+     * @param capacity int, the initial capacity.
+     */
+    public EntityDeque(int capacity) {
+        int length = Integer.highestOneBit(Math.max(capacity, 1) - 1) << 1;
+        this.entities = new Object[Math.max(length, 1)];
+        this.head = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Adds an entity at the first end, returns nothing.
+     * @param entity The entity to add.
+     * @return void
+     */
+    public void addFirst(T entity) {
+        if (size == entities.length) {
+            grow();
+        }
+        head = (head - 1) & (entities.length - 1);
+        entities[head] = entity;
+        size++;
+    }
+
+    /**
+     * Adds an entity at the last end, returns nothing.
+     * @param entity The entity to add.
+     * @return void
+     */
+    public void addLast(T entity) {
+        if (size == entities.length) {
+            grow();
+        }
+        entities[index(size)] = entity;
+        size++;
+    }
+
+    /**
+     * Gets the entity at the first end.
+     * @return T The most recently added entity at the first end.
+     */
+    public T getFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return get(0);
+    }
+
+    /**
+     * Gets the entity at the last end.
+     * @return T The entity at the last end.
+     */
+    public T getLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return get(size - 1);
+    }
+
+    /**
+     * Removes the entity at the last end and returns it.
+     * @return T The removed entity.
+     */
+    public T removeLast() {
+        T entity = getLast();
+        entities[index(size - 1)] = null;
+        size--;
+        return entity;
+    }
+
+    /**
+     * Takes in i, and gets the entity i places from the first end.
+     * @param i int, the position of the entity, where 0 is the first.
+     * @return T The entity at the position.
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int i) {
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("Index: " + i + ", Size: " + size);
+        }
+        return (T) entities[index(i)];
+    }
+
+    /**
+     * Takes in i and entity, and replaces the entity i places from the first end, returns nothing.
+     * @param i int, the position of the entity, where 0 is the first.
+     * @param entity The entity to store.
+     * @return void
+     */
+    public void set(int i, T entity) {
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("Index: " + i + ", Size: " + size);
+        }
+        entities[index(i)] = entity;
+    }
+
+    /**
+     * Removes every entity matching the filter in a single pass, keeping the remaining entities in order,
+     * and passes each removed entity to the removed consumer.
+     * @param filter Predicate, true for entities that should be removed.
+     * @param removed Consumer, receives each removed entity, e.g. to recycle it.
+     * @return int The number of entities removed.
+     */
+    @SuppressWarnings("unchecked")
+    public int removeIf(Predicate<? super T> filter, Consumer<? super T> removed) {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            T entity = (T) entities[index(i)];
+            if (filter.test(entity)) {
+                removed.accept(entity);
+            } else {
+                if (kept != i) {
+                    entities[index(kept)] = entity;
+                }
+                kept++;
+            }
+        }
+
+        // Clear vacated slots
+        for (int i = kept; i < size; i++) {
+            entities[index(i)] = null;
+        }
+        int count = size - kept;
+        size = kept;
+        return count;
+    }
+
+    /**
+     * Removes all entities, returns nothing.
+     * @return void
+     */
+    public void clear() {
+        Arrays.fill(entities, null);
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Gets the number of entities.
+     * @return int The number of entities stored.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Determines whether there are no entities.
+     * @return boolean Returns true if empty, and false otherwise.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Iterates from the first end to the last end.
+     * @return Iterator<T> An iterator over the entities.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public T next() {
+                if (next >= size) {
+                    throw new NoSuchElementException();
+                }
+                return get(next++);
+            }
+        };
+    }
+
+    private int index(int i) {
+        return (head + i) & (entities.length - 1);
+    }
+
+    private void grow() {
+        Object[] grown = new Object[entities.length << 1];
+        for (int i = 0; i < size; i++) {
+            grown[i] = entities[index(i)];
+        }
+        entities = grown;
+        head = 0;
+    }
+}
@@ -0,0 +1,39 @@
+/**
+ * Represents the integer type ids of weapons and pipes, used to look up how they interact and to tag them
+ * within snapshots. Weapons and pipes are numbered separately, each from 0, so that the ids index the rows
+ * and columns of Interactions directly.
+ */
+public final class EntityType {
+    /**
+     * A rock, which only breaks plastic pipes.
+     */
+    public static final int ROCK = 0;
+
+    /**
+     * A bomb, which breaks any pipe.
+     */
+    public static final int BOMB = 1;
+
+    /**
+     * The number of weapon types.
+     */
+    public static final int WEAPON_TYPES = 2;
+
+    /**
+     * Plastic pipes.
+     */
+    public static final int PLASTIC_PIPES = 0;
+
+    /**
+     * Steel pipes, with flames.
+     */
+    public static final int STEEL_PIPES = 1;
+
+    /**
+     * The number of pipe types.
+     */
+    public static final int PIPE_TYPES = 2;
+
+    private EntityType() {
+    }
+}
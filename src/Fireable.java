@@ -1,6 +1,4 @@
-import bagel.Input;
-
 public interface Fireable {
-    boolean triggered(Input input);
+    boolean triggered(int controls);
     void shoot();
 }
@@ -0,0 +1,61 @@
+/**
+ * Represents a fixed-timestep clock, deciding how many simulation ticks to run for each rendered frame so
+ * that game speed stays the same regardless of the display's refresh rate. Leftover time is carried over
+ * between frames and exposed as an interpolation weight for drawing.
+ */
+public class FixedTimestep {
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final long tickNanos;
+    private final int maxTicksPerFrame;
+    private long lastTime;
+    private long accumulator;
+    private boolean isStarted;
+
+    /**
+     * Takes in tickRate and maxTicksPerFrame, and instantiates a FixedTimestep.
+     * @param tickRate int, the number of ticks to run per second.
+     * @param maxTicksPerFrame int, the most ticks run to catch up within a single frame. Any time beyond
+     *                         this is dropped, so a long stall slows the game rather than fast-forwarding it.
+     */
+    public FixedTimestep(int tickRate, int maxTicksPerFrame) {
+        this.tickNanos = NANOS_PER_SECOND / tickRate;
+        this.maxTicksPerFrame = maxTicksPerFrame;
+        this.accumulator = 0;
+        this.isStarted = false;
+    }
+
+    /**
+     * Takes in the current time, and determines how many ticks are due since the last frame.
+     * The first frame always runs a single tick.
+     * @param now long, the current time in nanoseconds, e.g. from System.nanoTime.
+     * @return int The number of ticks to run this frame.
+     */
+    public int advance(long now) {
+        if (!isStarted) {
+            isStarted = true;
+            lastTime = now;
+            accumulator = 0;
+            return 1;
+        }
+        accumulator += now - lastTime;
+        lastTime = now;
+
+        int ticks = (int) Math.min(accumulator / tickNanos, maxTicksPerFrame);
+        accumulator -= ticks * tickNanos;
+
+        // Drop time which could not be caught up
+        if (accumulator >= tickNanos) {
+            accumulator = tickNanos - 1;
+        }
+        return ticks;
+    }
+
+    /**
+     * Gets the interpolation weight, the fraction of a tick which has passed since the last tick ran.
+     * @return double From 0, at the last tick, up to but excluding 1.
+     */
+    public double getAlpha() {
+        return (double) accumulator / tickNanos;
+    }
+}
@@ -0,0 +1,154 @@
+import java.util.SplittableRandom;
+
+/**
+ * Represents a splittable pseudorandom number generator using the SplitMix64 algorithm, the same one behind
+ * java.util.SplittableRandom, but with its state exposed so that it can be saved in and restored from a
+ * WorldSnapshot. Splitting produces an independent generator, allowing each part of the game its own stream.
+ */
+public class GameRandom {
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    private static final double DOUBLE_UNIT = 0x1.0p-53;
+    private static final int DOUBLE_SHIFT = 11;
+
+    private long seed;
+    private long gamma;
+
+    /**
+     * Instantiates a GameRandom with a seed that differs on every call.
+     */
+    public GameRandom() {
+        this(new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Takes in seed, and instantiates a GameRandom.
+     * @param seed long, the seed which every value is derived from.
+     */
+    public GameRandom(long seed) {
+        this(seed, GOLDEN_GAMMA);
+    }
+
+    private GameRandom(long seed, long gamma) {
+        this.seed = seed;
+        this.gamma = gamma;
+    }
+
+    /**
+     * Creates a new generator, independent of this one, advancing this one's state.
+     * @return GameRandom The new generator.
+     */
+    public GameRandom split() {
+        return new GameRandom(mix64(nextSeed()), mixGamma(nextSeed()));
+    }
+
+    /**
+     * Takes in target, and gives it the state split would have given a new generator, advancing this one's
+     * state in the same way, returns nothing.
+     * @param target GameRandom object to overwrite.
+     * @return void
+     */
+    public void splitInto(GameRandom target) {
+        target.seed = mix64(nextSeed());
+        target.gamma = mixGamma(nextSeed());
+    }
+
+    /**
+     * Takes in seed, and returns the generator to the state it would have had if instantiated with seed,
+     * returns nothing.
+     * @param seed long, the seed which every value is derived from.
+     * @return void
+     */
+    public void reseed(long seed) {
+        this.seed = seed;
+        this.gamma = GOLDEN_GAMMA;
+    }
+
+    /**
+     * Gets a uniformly distributed long.
+     * @return long The random long.
+     */
+    public long nextLong() {
+        return mix64(nextSeed());
+    }
+
+    /**
+     * Takes in bound, and gets a uniformly distributed integer from 0 up to but excluding bound.
+     * @param bound int, the exclusive upper bound, which must be positive.
+     * @return int The random integer.
+     */
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("bound must be positive");
+        }
+        int r = mix32(nextSeed());
+        int m = bound - 1;
+        if ((bound & m) == 0) {
+            return r & m;
+        }
+
+        // Reject values from the incomplete last range, so that every result is equally likely
+        for (int u = r >>> 1; u + m - (r = u % bound) < 0; u = mix32(nextSeed()) >>> 1) {
+        }
+        return r;
+    }
+
+    /**
+     * Gets a uniformly distributed double from 0 up to but excluding 1.
+     * @return double The random double.
+     */
+    public double nextDouble() {
+        return (mix64(nextSeed()) >>> DOUBLE_SHIFT) * DOUBLE_UNIT;
+    }
+
+    /**
+     * Gets a random boolean, true and false being equally likely.
+     * @return boolean The random boolean.
+     */
+    public boolean nextBoolean() {
+        return mix32(nextSeed()) < 0;
+    }
+
+    /**
+     * Takes in snapshot, and writes the generator's state to it, returns nothing.
+     * @param snapshot WorldSnapshot object to write to.
+     * @return void
+     */
+    public void save(WorldSnapshot snapshot) {
+        snapshot.putLong(seed);
+        snapshot.putLong(gamma);
+    }
+
+    /**
+     * Takes in snapshot, and reads the generator's state back from it, returns nothing.
+     * @param snapshot WorldSnapshot object to read from.
+     * @return void
+     */
+    public void restore(WorldSnapshot snapshot) {
+        seed = snapshot.getLong();
+        gamma = snapshot.getLong();
+    }
+
+    private long nextSeed() {
+        return seed += gamma;
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private static int mix32(long z) {
+        z = (z ^ (z >>> 33)) * 0x62a9d9ed799705f5L;
+        return (int) (((z ^ (z >>> 28)) * 0xcb24d0a5c88c35b3L) >>> 32);
+    }
+
+    // Odd gammas with enough bit transitions give well mixed streams
+    private static long mixGamma(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        z = (z ^ (z >>> 33)) | 1L;
+        int transitions = Long.bitCount(z ^ (z >>> 1));
+        return (transitions < 24) ? z ^ 0xaaaaaaaaaaaaaaaaL : z;
+    }
+}
@@ -0,0 +1,353 @@
+import java.util.SplittableRandom;
+
+/**
+ * Represents a single play through of the game, holding the levels and game objects, and advancing them one
+ * frame at a time from a set of controls. No drawing or window is required, allowing sessions to be run
+ * headlessly and rendered separately. All randomness comes from the session's seed, so sessions with the same
+ * seed and controls play out identically. The whole state can be saved to a WorldSnapshot and restored later,
+ * allowing the session to be rewound or branched.
+ */
+public class GameSession {
+    // Game flow
+    private final int INITIAL_SCORE = 0;
+    private final int PAUSE_MESSAGE_FRAMES = 20;
+    private final int LAST_LEVEL = 1;
+    private int frameCountMessage;
+    private int score;
+    private boolean isGameRunning;
+    private boolean isWon;
+    private final long seed;
+
+    // Game objects
+    private EntityDeque<Pipes> pipes;
+    private EntityDeque<Weapon> weapons;
+    private Background background;
+    private Bird bird;
+    private TimeScale timeScale;
+    private Level[] levels;
+    private int levelIndex;
+
+    /**
+     * Instantiates a GameSession with a random seed, starting from the first level.
+     */
+    public GameSession() {
+        this(new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Takes in seed, and instantiates a GameSession, starting from the first level.
+     * @param seed long, the seed from which every level's randomness is drawn.
+     */
+    public GameSession(long seed) {
+        this.seed = seed;
+        GameRandom random = new GameRandom(seed);
+        score = INITIAL_SCORE;
+        frameCountMessage = 0;
+        isGameRunning = false;
+        isWon = false;
+
+        // Add levels
+        levels = new Level[]{new Level0(INITIAL_SCORE, random.split()), new Level1(INITIAL_SCORE, random.split())};
+        levelIndex = 0;
+
+        bird = getLevel().createBird();
+        background = getLevel().createBackground();
+        pipes = new EntityDeque<>();
+        weapons = new EntityDeque<>();
+        timeScale = new TimeScale();
+    }
+
+    /**
+     * Advances the session by a single frame, returns nothing.
+     * @param controls int, the controls pressed this frame.
+     * @return void
+     */
+    public void update(int controls) {
+        // Pre game
+        if (!isGameRunning) {
+            checkStart(controls);
+        }
+
+        // Game running
+        if (isGameRunning) {
+            if (!getLevel().getIsGameOver()) {
+                // Level up
+                if (getLevel().getIsLevelCompleted()) {
+                    levelUp();
+                }
+                // Continue through level
+                else {
+                    getLevel().update(controls, pipes, bird, weapons, background, timeScale);
+                }
+                // Update score
+                score = getLevel().getScore();
+            }
+        }
+    }
+
+    /**
+     * Takes in source and ticks, and advances the session by up to that many ticks as fast as possible,
+     * stopping early once the game is over.
+     * @param source InputSource, providing the controls of each tick.
+     * @param ticks int, the most ticks to advance by.
+     * @return int The number of ticks advanced.
+     */
+    public int play(InputSource source, int ticks) {
+        int tick = 0;
+        while (tick < ticks && !getIsGameOver()) {
+            update(source.nextControls(this));
+            tick++;
+        }
+        return tick;
+    }
+
+    /**
+     * Takes in controls, offset and length, and advances the session by a tick for each of the controls
+     * within the range, as fast as possible, stopping early once the game is over.
+     * @param controls int[], the controls of each tick, as Controls bitmasks.
+     * @param offset int, the index of the first tick's controls.
+     * @param length int, the number of ticks to advance by.
+     * @return int The number of ticks advanced.
+     */
+    public int update(int[] controls, int offset, int length) {
+        int tick = 0;
+        while (tick < length && !getIsGameOver()) {
+            update(controls[offset + tick]);
+            tick++;
+        }
+        return tick;
+    }
+
+    private void checkStart(int controls) {
+        if (Controls.isPressed(controls, Controls.FLAP)) {
+            isGameRunning = !isGameRunning;
+        }
+    }
+
+    private void levelUp() {
+        // Determine if game over
+        if (frameCountMessage == 0) {
+            if (levelIndex == LAST_LEVEL) {
+                isWon = !isWon;
+                getLevel().gameOver();
+                return;
+            }
+        }
+        frameCountMessage++;
+
+        // Start new level
+        if (frameCountMessage >= PAUSE_MESSAGE_FRAMES) {
+            frameCountMessage = 0;
+            levelIndex++;
+            bird = getLevel().createBird();
+            pipes = new EntityDeque<>();
+            timeScale.reset();
+            background = getLevel().createBackground();
+            isGameRunning = !isGameRunning;
+        }
+    }
+
+    /**
+     * Gets the current level.
+     * @return Level The level currently being played.
+     */
+    public Level getLevel() {
+        return levels[levelIndex];
+    }
+
+    /**
+     * Gets the level after the current one.
+     * @return Level The next level, or null if the current level is the last.
+     */
+    public Level getNextLevel() {
+        return levelIndex + 1 < levels.length ? levels[levelIndex + 1] : null;
+    }
+
+    /**
+     * Takes in snapshot, and writes the whole state of the session to it, replacing anything it held,
+     * returns nothing.
+     * @param snapshot WorldSnapshot object to write to.
+     * @return void
+     */
+    public void save(WorldSnapshot snapshot) {
+        snapshot.clear();
+        snapshot.putInt(frameCountMessage);
+        snapshot.putInt(score);
+        snapshot.putBoolean(isGameRunning);
+        snapshot.putBoolean(isWon);
+        snapshot.putInt(levelIndex);
+        for (Level level : levels) {
+            level.save(snapshot);
+        }
+        timeScale.save(snapshot);
+
+        // Pipes and weapons, each preceded by its type
+        snapshot.putInt(pipes.size());
+        for (int i = 0; i < pipes.size(); i++) {
+            Pipes pipe = pipes.get(i);
+            snapshot.putInt(pipe.getTypeId());
+            pipe.save(snapshot);
+        }
+        snapshot.putInt(weapons.size());
+        for (int i = 0; i < weapons.size(); i++) {
+            Weapon weapon = weapons.get(i);
+            snapshot.putInt(weapon.getTypeId());
+            weapon.save(snapshot);
+        }
+        bird.save(snapshot, weapons);
+    }
+
+    /**
+     * Takes in snapshot, and returns the session to the state it was saved in, returns nothing.
+     * Pipes and weapons of the right type are restored in place, and others are swapped through the level's
+     * pools rather than created.
+     * @param snapshot WorldSnapshot object to read from, written by save.
+     * @return void
+     */
+    public void restore(WorldSnapshot snapshot) {
+        snapshot.rewind();
+        frameCountMessage = snapshot.getInt();
+        score = snapshot.getInt();
+        isGameRunning = snapshot.getBoolean();
+        isWon = snapshot.getBoolean();
+
+        // Objects belonging to a level are only recreated when moving between levels
+        int savedLevelIndex = snapshot.getInt();
+        if (savedLevelIndex != levelIndex) {
+            levelIndex = savedLevelIndex;
+            bird = getLevel().createBird();
+            background = getLevel().createBackground();
+        }
+        for (Level level : levels) {
+            level.restore(snapshot);
+        }
+        timeScale.restore(snapshot);
+
+        // Pipes
+        PipesPool pipesPool = getLevel().getPipesPool();
+        int pipeCount = snapshot.getInt();
+        for (int i = 0; i < pipeCount; i++) {
+            int type = snapshot.getInt();
+            Pipes pipe = i < pipes.size() ? pipes.get(i) : null;
+            if (pipe == null || pipe.getTypeId() != type) {
+                Pipes replacement = type == EntityType.STEEL_PIPES ? pipesPool.acquireSteel(0, timeScale) :
+                        pipesPool.acquirePlastic(0, timeScale);
+                if (pipe == null) {
+                    pipes.addLast(replacement);
+                } else {
+                    pipesPool.release(pipe);
+                    pipes.set(i, replacement);
+                }
+                pipe = replacement;
+            }
+            pipe.restore(snapshot, timeScale);
+        }
+        while (pipes.size() > pipeCount) {
+            pipesPool.release(pipes.removeLast());
+        }
+
+        // Weapons
+        WeaponPool weaponPool = getLevel().getWeaponPool();
+        int weaponCount = snapshot.getInt();
+        for (int i = 0; i < weaponCount; i++) {
+            int type = snapshot.getInt();
+            Weapon weapon = i < weapons.size() ? weapons.get(i) : null;
+            if (weapon == null || weapon.getTypeId() != type) {
+                Weapon replacement = type == EntityType.BOMB ? weaponPool.acquireBomb(0, 0, timeScale) :
+                        weaponPool.acquireRock(0, 0, timeScale);
+                if (weapon == null) {
+                    weapons.addLast(replacement);
+                } else {
+                    weaponPool.release(weapon);
+                    weapons.set(i, replacement);
+                }
+                weapon = replacement;
+            }
+            weapon.restore(snapshot, timeScale);
+        }
+        while (weapons.size() > weaponCount) {
+            weaponPool.release(weapons.removeLast());
+        }
+        bird.restore(snapshot, weapons);
+    }
+
+    /**
+     * Gets the isGameRunning value.
+     * @return boolean Returns whether a level is being played, and false while waiting to start.
+     */
+    public boolean getIsGameRunning() {
+        return isGameRunning;
+    }
+
+    /**
+     * Gets the isGameOver value.
+     * @return boolean Returns whether the game is over, either won or lost.
+     */
+    public boolean getIsGameOver() {
+        return getLevel().getIsGameOver();
+    }
+
+    /**
+     * Gets the isWon value.
+     * @return boolean Returns whether the game has been won.
+     */
+    public boolean getIsWon() {
+        return isWon;
+    }
+
+    /**
+     * Gets the seed.
+     * @return long The seed which the session's randomness is drawn from.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the score.
+     * @return int The score within the current level.
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Gets the pipes.
+     * @return EntityDeque<Pipes> The pipes within the current level.
+     */
+    public EntityDeque<Pipes> getPipes() {
+        return pipes;
+    }
+
+    /**
+     * Gets the weapons.
+     * @return EntityDeque<Weapon> The weapons within the current level.
+     */
+    public EntityDeque<Weapon> getWeapons() {
+        return weapons;
+    }
+
+    /**
+     * Gets the background.
+     * @return Background The background of the current level.
+     */
+    public Background getBackground() {
+        return background;
+    }
+
+    /**
+     * Gets the bird.
+     * @return Bird The bird within the current level.
+     */
+    public Bird getBird() {
+        return bird;
+    }
+
+    /**
+     * Gets the timeScale.
+     * @return TimeScale The timescale of the current level.
+     */
+    public TimeScale getTimeScale() {
+        return timeScale;
+    }
+}
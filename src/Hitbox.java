@@ -0,0 +1,336 @@
+/**
+ * Represents a mutable axis-aligned rectangle used for collisions. Unlike bagel's Rectangle, it can be moved
+ * and resized in place, so entities can move every frame without allocating. The position before the last
+ * sweep is kept, so collisions can be tested over the whole motion of a frame rather than only at its end.
+ * A hitbox may carry a CollisionMask of the image it covers, in which case collisions only count where solid
+ * pixels meet, tested only once the rectangles are known to overlap.
+ */
+public class Hitbox {
+    private double left;
+    private double top;
+    private double width;
+    private double height;
+
+    // Position before the last sweep
+    private double previousLeft;
+    private double previousTop;
+
+    // Solid pixels, or null if the whole rectangle is solid
+    private CollisionMask mask;
+
+    /**
+     * Takes in left, top, width and height, and instantiates a Hitbox.
+     * @param left double, the x value of the left edge.
+     * @param top double, the y value of the top edge.
+     * @param width double, the width.
+     * @param height double, the height.
+     */
+    public Hitbox(double left, double top, double width, double height) {
+        this.left = left;
+        this.top = top;
+        this.width = width;
+        this.height = height;
+        this.previousLeft = left;
+        this.previousTop = top;
+        this.mask = null;
+    }
+
+    /**
+     * Takes in left, top and mask, and instantiates a Hitbox the size of the mask, which only collides where
+     * the mask is solid.
+     * @param left double, the x value of the left edge.
+     * @param top double, the y value of the top edge.
+     * @param mask CollisionMask object, the solid pixels of the image covered.
+     */
+    public Hitbox(double left, double top, CollisionMask mask) {
+        this(left, top, mask.getWidth(), mask.getHeight());
+        this.mask = mask;
+    }
+
+    /**
+     * Moves the hitbox continuously so its top left ends at the given position, returns nothing.
+     * Swept collisions test the whole path from the previous position.
+     * @param left double, the new x value of the left edge.
+     * @param top double, the new y value of the top edge.
+     * @return void
+     */
+    public void sweepTo(double left, double top) {
+        this.previousLeft = this.left;
+        this.previousTop = this.top;
+        this.left = left;
+        this.top = top;
+    }
+
+    /**
+     * Moves the hitbox instantly so its top left is at the given position, with no motion to sweep,
+     * returns nothing.
+     * @param left double, the new x value of the left edge.
+     * @param top double, the new y value of the top edge.
+     * @return void
+     */
+    public void moveTo(double left, double top) {
+        this.left = left;
+        this.top = top;
+        this.previousLeft = left;
+        this.previousTop = top;
+    }
+
+    /**
+     * Resizes the hitbox, keeping its top left in place, returns nothing.
+     * @param width double, the new width.
+     * @param height double, the new height.
+     * @return void
+     */
+    public void resize(double width, double height) {
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Takes in mask, and changes which pixels of the hitbox are solid, keeping its position and size,
+     * returns nothing.
+     * @param mask CollisionMask object, the solid pixels of the image covered, the same size as the hitbox.
+     * @return void
+     */
+    public void setMask(CollisionMask mask) {
+        this.mask = mask;
+    }
+
+    /**
+     * Takes in snapshot, and writes the hitbox's position and its position before the last sweep to it,
+     * returns nothing.
+     * @param snapshot WorldSnapshot object to write to.
+     * @return void
+     */
+    public void save(WorldSnapshot snapshot) {
+        snapshot.putDouble(left);
+        snapshot.putDouble(top);
+        snapshot.putDouble(previousLeft);
+        snapshot.putDouble(previousTop);
+    }
+
+    /**
+     * Takes in snapshot, and reads the hitbox's positions back from it, returns nothing.
+     * @param snapshot WorldSnapshot object to read from.
+     * @return void
+     */
+    public void restore(WorldSnapshot snapshot) {
+        left = snapshot.getDouble();
+        top = snapshot.getDouble();
+        previousLeft = snapshot.getDouble();
+        previousTop = snapshot.getDouble();
+    }
+
+    /**
+     * Checks whether the hitbox overlaps or touches another hitbox.
+     * @param other Hitbox object to check against.
+     * @return boolean Returns true if the hitboxes intersect, and false otherwise.
+     */
+    public boolean intersects(Hitbox other) {
+        if (other.left > left + width ||
+                other.left + other.width < left ||
+                other.top > top + height ||
+                other.top + other.height < top) {
+            return false;
+        }
+        return (mask == null && other.mask == null) || masksOverlap(other, left, top, other.left, other.top);
+    }
+
+    /**
+     * Checks whether the hitbox overlaps or touches another hitbox at any point while both sweep from their
+     * previous positions to their current ones, so fast or thin objects cannot pass through each other
+     * between frames.
+     * @param other Hitbox object to check against.
+     * @return boolean Returns true if the hitboxes intersect during the sweep, and false otherwise.
+     */
+    public boolean sweptIntersects(Hitbox other) {
+        // Motion relative to the other hitbox
+        double dx = (left - previousLeft) - (other.left - other.previousLeft);
+        double dy = (top - previousTop) - (other.top - other.previousTop);
+
+        // Times at which the edges start and stop overlapping along each axis
+        double entryX, exitX, entryY, exitY;
+        if (dx == 0) {
+            if (previousLeft > other.previousLeft + other.width || previousLeft + width < other.previousLeft) {
+                return false;
+            }
+            entryX = Double.NEGATIVE_INFINITY;
+            exitX = Double.POSITIVE_INFINITY;
+        } else {
+            double near = (other.previousLeft - (previousLeft + width)) / dx;
+            double far = (other.previousLeft + other.width - previousLeft) / dx;
+            entryX = Math.min(near, far);
+            exitX = Math.max(near, far);
+        }
+        if (dy == 0) {
+            if (previousTop > other.previousTop + other.height || previousTop + height < other.previousTop) {
+                return false;
+            }
+            entryY = Double.NEGATIVE_INFINITY;
+            exitY = Double.POSITIVE_INFINITY;
+        } else {
+            double near = (other.previousTop - (previousTop + height)) / dy;
+            double far = (other.previousTop + other.height - previousTop) / dy;
+            entryY = Math.min(near, far);
+            exitY = Math.max(near, far);
+        }
+
+        double entry = Math.max(entryX, entryY);
+        double exit = Math.min(exitX, exitY);
+        if (!(entry <= exit && entry <= 1 && exit >= 0)) {
+            return false;
+        }
+        return (mask == null && other.mask == null) || sweptMasksOverlap(other, entry, exit, dx, dy);
+    }
+
+    // Compares the masks at steps of at most a pixel through the part of the sweep where the rectangles meet
+    private boolean sweptMasksOverlap(Hitbox other, double entry, double exit, double dx, double dy) {
+        double from = Math.max(entry, 0), to = Math.min(exit, 1);
+        int steps = (int) Math.ceil(Math.max(Math.abs(dx), Math.abs(dy)) * (to - from));
+        for (int step = 0; step <= steps; step++) {
+            double time = steps == 0 ? from : from + (to - from) * step / steps;
+            if (masksOverlap(other, previousLeft + (left - previousLeft) * time,
+                    previousTop + (top - previousTop) * time,
+                    other.previousLeft + (other.left - other.previousLeft) * time,
+                    other.previousTop + (other.top - other.previousTop) * time)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Compares the solid pixels of the hitboxes at the given positions, treating a hitbox without a mask as solid
+    private boolean masksOverlap(Hitbox other, double x, double y, double otherX, double otherY) {
+        if (mask != null && other.mask != null) {
+            return mask.overlaps(other.mask, (int) Math.round(otherX - x), (int) Math.round(otherY - y));
+        }
+        if (mask != null) {
+            return mask.overlapsRegion((int) Math.floor(otherX - x), (int) Math.floor(otherY - y),
+                    (int) Math.ceil(otherX + other.width - x), (int) Math.ceil(otherY + other.height - y));
+        }
+        return other.mask.overlapsRegion((int) Math.floor(x - otherX), (int) Math.floor(y - otherY),
+                (int) Math.ceil(x + width - otherX), (int) Math.ceil(y + height - otherY));
+    }
+
+    /**
+     * Gets the collision mask.
+     * @return CollisionMask The solid pixels of the hitbox, or null if the whole rectangle is solid.
+     */
+    public CollisionMask getMask() {
+        return mask;
+    }
+
+    /**
+     * Gets the x value of the leftmost point covered by the last sweep.
+     * @return double The left edge of the swept area.
+     */
+    public double sweptLeft() {
+        return Math.min(left, previousLeft);
+    }
+
+    /**
+     * Gets the x value of the rightmost point covered by the last sweep.
+     * @return double The right edge of the swept area.
+     */
+    public double sweptRight() {
+        return Math.max(left, previousLeft) + width;
+    }
+
+    /**
+     * Gets the y value of the highest point covered by the last sweep.
+     * @return double The top edge of the swept area.
+     */
+    public double sweptTop() {
+        return Math.min(top, previousTop);
+    }
+
+    /**
+     * Gets the y value of the lowest point covered by the last sweep.
+     * @return double The bottom edge of the swept area.
+     */
+    public double sweptBottom() {
+        return Math.max(top, previousTop) + height;
+    }
+
+    /**
+     * Takes in alpha, and gets the x value of the left edge part of the way through the last sweep.
+     * @param alpha double, from 0 for the previous position to 1 for the current position.
+     * @return double The interpolated left edge.
+     */
+    public double interpolatedLeft(double alpha) {
+        return previousLeft + (left - previousLeft) * alpha;
+    }
+
+    /**
+     * Takes in alpha, and gets the y value of the top edge part of the way through the last sweep.
+     * @param alpha double, from 0 for the previous position to 1 for the current position.
+     * @return double The interpolated top edge.
+     */
+    public double interpolatedTop(double alpha) {
+        return previousTop + (top - previousTop) * alpha;
+    }
+
+    /**
+     * Gets the x value of the left edge.
+     * @return double The left edge.
+     */
+    public double left() {
+        return left;
+    }
+
+    /**
+     * Gets the x value of the right edge.
+     * @return double The right edge.
+     */
+    public double right() {
+        return left + width;
+    }
+
+    /**
+     * Gets the y value of the top edge.
+     * @return double The top edge.
+     */
+    public double top() {
+        return top;
+    }
+
+    /**
+     * Gets the y value of the bottom edge.
+     * @return double The bottom edge.
+     */
+    public double bottom() {
+        return top + height;
+    }
+
+    /**
+     * Gets the x value of the centre.
+     * @return double The horizontal centre.
+     */
+    public double centreX() {
+        return left + width / 2;
+    }
+
+    /**
+     * Gets the y value of the centre.
+     * @return double The vertical centre.
+     */
+    public double centreY() {
+        return top + height / 2;
+    }
+
+    /**
+     * Gets the width.
+     * @return double The width.
+     */
+    public double width() {
+        return width;
+    }
+
+    /**
+     * Gets the height.
+     * @return double The height.
+     */
+    public double height() {
+        return height;
+    }
+}
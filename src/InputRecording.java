@@ -0,0 +1,171 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Represents the controls of every tick of a session together with its seed, which is all that is needed to
+ * play the session back exactly. Recordings are saved in a compact binary form, where only the ticks with
+ * keys pressed are stored, each as a varint count of ticks since the previous one followed by a varint of
+ * its controls.
+ */
+public class InputRecording {
+    // File layout
+    private static final int MAGIC = 0x53465250;
+    private static final int VERSION = 1;
+    private static final int VARINT_PAYLOAD_BITS = 7;
+    private static final int VARINT_PAYLOAD_MASK = 0x7F;
+    private static final int VARINT_CONTINUE = 0x80;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int ERROR = -1;
+
+    private final long seed;
+    private int[] controls;
+    private int ticks;
+
+    /**
+     * Takes in seed, and instantiates an empty InputRecording.
+     * @param seed long, the seed of the session being recorded.
+     */
+    public InputRecording(long seed) {
+        this.seed = seed;
+        this.controls = new int[INITIAL_CAPACITY];
+        this.ticks = 0;
+    }
+
+    /**
+     * Takes in controls, and appends them as the next tick, returns nothing.
+     * @param controls int, the controls pressed during the tick.
+     * @return void
+     */
+    public void add(int controls) {
+        if (ticks == this.controls.length) {
+            this.controls = Arrays.copyOf(this.controls, ticks << 1);
+        }
+        this.controls[ticks++] = controls;
+    }
+
+    /**
+     * Takes in tick, and gets the controls pressed during it.
+     * @param tick int, the tick, where 0 is the first.
+     * @return int The controls pressed during the tick.
+     */
+    public int get(int tick) {
+        if (tick < 0 || tick >= ticks) {
+            throw new IndexOutOfBoundsException("Tick: " + tick + ", Ticks: " + ticks);
+        }
+        return controls[tick];
+    }
+
+    /**
+     * Gets the number of ticks recorded.
+     * @return int The number of ticks.
+     */
+    public int size() {
+        return ticks;
+    }
+
+    /**
+     * Gets the seed.
+     * @return long The seed of the recorded session.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Takes in path, and writes the recording to the file, exiting with an error if it cannot be written,
+     * returns nothing.
+     * @param path String, the path of the file to write.
+     * @return void
+     */
+    public void save(String path) {
+        try {
+            write(path);
+        } catch (IOException e) {
+            System.out.println("Error - unable to write recording: " + path);
+            System.exit(ERROR);
+        }
+    }
+
+    /**
+     * Takes in path, and writes the recording to the file, leaving the caller to handle a failed write, such
+     * as a shutdown hook which must not exit, returns nothing.
+     * @param path String, the path of the file to write.
+     * @return void
+     * @throws IOException If the file cannot be written.
+     */
+    public void write(String path) throws IOException {
+        try (DataOutputStream stream = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(path)))) {
+            stream.writeInt(MAGIC);
+            stream.writeByte(VERSION);
+            stream.writeLong(seed);
+            writeVarint(stream, ticks);
+
+            // Ticks with keys pressed, relative to the previous one
+            int previous = -1;
+            for (int i = 0; i < ticks; i++) {
+                if (controls[i] != Controls.NONE) {
+                    writeVarint(stream, i - previous);
+                    writeVarint(stream, controls[i]);
+                    previous = i;
+                }
+            }
+        }
+    }
+
+    /**
+     * Takes in path, and reads a recording from the file.
+     * @param path String, the path of the file to read.
+     * @return InputRecording The recording read.
+     */
+    public static InputRecording load(String path) {
+        InputRecording recording = null;
+        try (DataInputStream stream = new DataInputStream(new BufferedInputStream(new FileInputStream(path)))) {
+            if (stream.readInt() != MAGIC || stream.readByte() != VERSION) {
+                System.out.println("Error - not a recording: " + path);
+                System.exit(ERROR);
+            }
+            recording = new InputRecording(stream.readLong());
+            int ticks = readVarint(stream);
+            recording.controls = new int[Math.max(ticks, 1)];
+            recording.ticks = ticks;
+
+            // Remaining ticks have no keys pressed
+            int tick = -1;
+            while (stream.available() > 0) {
+                tick += readVarint(stream);
+                recording.controls[tick] = readVarint(stream);
+            }
+        } catch (IOException | IndexOutOfBoundsException e) {
+            System.out.println("Error - unable to read recording: " + path);
+            System.exit(ERROR);
+        }
+        return recording;
+    }
+
+    private static void writeVarint(DataOutputStream stream, int value) throws IOException {
+        while ((value & ~VARINT_PAYLOAD_MASK) != 0) {
+            stream.writeByte((value & VARINT_PAYLOAD_MASK) | VARINT_CONTINUE);
+            value >>>= VARINT_PAYLOAD_BITS;
+        }
+        stream.writeByte(value);
+    }
+
+    private static int readVarint(DataInputStream stream) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += VARINT_PAYLOAD_BITS) {
+            int b = stream.readUnsignedByte();
+            value |= (b & VARINT_PAYLOAD_MASK) << shift;
+            if ((b & VARINT_CONTINUE) == 0) {
+                return value;
+            }
+        }
+        throw new EOFException("Malformed varint");
+    }
+}
@@ -0,0 +1,12 @@
+/**
+ * Represents anything which can drive a session, such as the keyboard, a recording or the autopilot,
+ * providing each tick's controls as a Controls bitmask so that no objects are created per tick.
+ */
+public interface InputSource {
+    /**
+     * Takes in session, and provides the controls for its next tick.
+     * @param session GameSession object about to be advanced, as seen by the source.
+     * @return int The controls pressed this tick.
+     */
+    int nextControls(GameSession session);
+}
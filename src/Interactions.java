@@ -0,0 +1,66 @@
+/**
+ * Represents the rules for a shot weapon hitting pipes, as a table with a row per weapon type and a column
+ * per pipe type, filled in once. Resolving a hit is a lookup by EntityType ids, so no weapon or pipe class
+ * needs to know about the others, and a new type only needs its id and its row or column of rules here.
+ */
+public final class Interactions {
+    private static final int CELLS = EntityType.WEAPON_TYPES * EntityType.PIPE_TYPES;
+    private static final boolean[] DESTROYS_WEAPON = new boolean[CELLS];
+    private static final boolean[] DESTROYS_TARGET = new boolean[CELLS];
+    private static final int[] SCORE = new int[CELLS];
+
+    static {
+        rule(EntityType.ROCK, EntityType.PLASTIC_PIPES, true, true, 1);
+        rule(EntityType.ROCK, EntityType.STEEL_PIPES, true, false, 0);
+        rule(EntityType.BOMB, EntityType.PLASTIC_PIPES, true, true, 1);
+        rule(EntityType.BOMB, EntityType.STEEL_PIPES, true, true, 1);
+    }
+
+    private Interactions() {
+    }
+
+    private static void rule(int weaponType, int pipeType, boolean destroysWeapon, boolean destroysTarget,
+                             int score) {
+        int cell = find(weaponType, pipeType);
+        DESTROYS_WEAPON[cell] = destroysWeapon;
+        DESTROYS_TARGET[cell] = destroysTarget;
+        SCORE[cell] = score;
+    }
+
+    /**
+     * Takes in weaponType and pipeType, and finds the cell of the table holding their rules.
+     * @param weaponType int, the EntityType id of the weapon.
+     * @param pipeType int, the EntityType id of the pipes.
+     * @return int The cell, to be passed to the other lookups.
+     */
+    public static int find(int weaponType, int pipeType) {
+        return weaponType * EntityType.PIPE_TYPES + pipeType;
+    }
+
+    /**
+     * Takes in cell, and determines whether the weapon is destroyed by the hit.
+     * @param cell int, the cell found by find.
+     * @return boolean Returns true if the weapon is destroyed, and false otherwise.
+     */
+    public static boolean destroysWeapon(int cell) {
+        return DESTROYS_WEAPON[cell];
+    }
+
+    /**
+     * Takes in cell, and determines whether the pipes are destroyed by the hit.
+     * @param cell int, the cell found by find.
+     * @return boolean Returns true if the pipes are destroyed, and false otherwise.
+     */
+    public static boolean destroysTarget(int cell) {
+        return DESTROYS_TARGET[cell];
+    }
+
+    /**
+     * Takes in cell, and gets the score gained from the hit.
+     * @param cell int, the cell found by find.
+     * @return int The points scored.
+     */
+    public static int getScore(int cell) {
+        return SCORE[cell];
+    }
+}
@@ -0,0 +1,19 @@
+/**
+ * Represents objects which move once per simulation tick, allowing them to be drawn part of the way between
+ * their previous and current positions when frames and ticks are not in step.
+ */
+public interface Interpolable {
+    /**
+     * Interpolation weight for drawing at the current position.
+     */
+    double CURRENT = 1;
+
+    /**
+     * Takes in queue and alpha, and submits draws of the object between its previous and current positions,
+     * returns nothing.
+     * @param queue RenderQueue object, drawn to the window once the frame is complete.
+     * @param alpha double, from 0 for the previous position to 1 for the current position.
+     * @return void
+     */
+    void draw(RenderQueue queue, double alpha);
+}
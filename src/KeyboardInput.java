@@ -0,0 +1,37 @@
+import bagel.Input;
+
+/**
+ * Represents the player's keyboard as an InputSource. Keys are read once per frame, and kept until the next
+ * tick, so that keys pressed on frames without a tick are not lost.
+ */
+public class KeyboardInput implements InputSource {
+    private int pendingControls;
+
+    /**
+     * Instantiates a KeyboardInput with no keys pressed.
+     */
+    public KeyboardInput() {
+        this.pendingControls = Controls.NONE;
+    }
+
+    /**
+     * Takes in input, and reads the keys pressed this frame, returns nothing.
+     * @param input Input object from which key commands are detected.
+     * @return void
+     */
+    public void poll(Input input) {
+        pendingControls |= Controls.poll(input);
+    }
+
+    /**
+     * Takes in session, and provides the keys pressed since the previous tick.
+     * @param session GameSession object about to be advanced.
+     * @return int The controls pressed since the previous tick.
+     */
+    @Override
+    public int nextControls(GameSession session) {
+        int controls = pendingControls;
+        pendingControls = Controls.NONE;
+        return controls;
+    }
+}
@@ -1,7 +1,6 @@
-import bagel.Input;
-import bagel.Keys;
 import bagel.util.Point;
-import java.util.LinkedList;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * Represents an abstract Level, with the ability to update the main elements on the screen.
@@ -11,6 +10,7 @@ public abstract class Level {
     private final String SCORE_MESSAGE = "SCORE:";
     private final int NO_PADDING = 0;
     private final Point SCORE_POINT = new Point(100, 100);
+    private final NumberText scoreText = new NumberText(SCORE_MESSAGE);
 
     // Game flow
     private final int BIRD_DAMAGE = 1;
@@ -27,48 +27,107 @@ public abstract class Level {
     private boolean isGameOver;
     private boolean isLevelCompleted;
     private int maxLevelScore;
+    private final PipesPool pipesPool;
+    private final WeaponPool weaponPool;
+    private final CollisionIndex collisions;
+    private final Predicate<Pipes> isPipeDestroyed = pipe -> !pipe.getExists();
+    private final Consumer<Pipes> releasePipe;
+    private final GameRandom random;
 
     /**
-     * Takes in initialScore and maxLevelScore, then creates a Level.
+     * Takes in initialScore, maxLevelScore and random, then creates a Level.
      * @param initialScore integer, the initial score which the level should start at.
      * @param maxLevelScore integer, the max score for the level.
+     * @param random GameRandom, the source of all randomness within the level, so that the same
+     *               seed and controls always play out the same way.
      */
-    public Level(int initialScore, int maxLevelScore) {
+    public Level(int initialScore, int maxLevelScore, GameRandom random) {
+        this.random = random;
         this.score = initialScore;
         this.maxLevelScore = maxLevelScore;
         this.isGameOver = false;
         this.isLevelCompleted = false;
         this.isInitialRender = true;
+        this.pipesPool = new PipesPool();
+        this.weaponPool = new WeaponPool();
+        this.collisions = new CollisionIndex();
+        this.releasePipe = pipesPool::release;
     }
 
     /**
-     * Updates all components in a level, returns nothing.
-     * @param input Input object from which to detect key commands.
-     * @param pipes LinkedList<Pipes>, pipes used within the level.
+     * Updates all components in a level by a single frame, without drawing, returns nothing.
+     * @param controls int, the controls pressed this frame.
+     * @param pipes EntityDeque<Pipes>, pipes used within the level.
      * @param bird Bird object used within the level.
-     * @param weapons LinkedList<Weapon>, weapons used within the level.
+     * @param weapons EntityDeque<Weapon>, weapons used within the level.
      * @param background Background object used within the level.
      * @param timeScale TimeScale object used within the level
+     * @return void
+     */
+    public abstract void update(int controls, EntityDeque<Pipes> pipes, Bird bird, EntityDeque<Weapon> weapons,
+                                   Background background, TimeScale timeScale);
+
+    /**
+     * Updates the pipes, and any other objects which do not depend on the bird, by a single frame, without a
+     * bird or drawing, so that many birds can share a world, returns nothing.
+     * @param pipes EntityDeque<Pipes>, pipes used within the level.
+     * @param weapons EntityDeque<Weapon>, weapons used within the level.
+     * @param timeScale TimeScale object used within the level.
+     * @return void
+     */
+    public void updateWorld(EntityDeque<Pipes> pipes, EntityDeque<Weapon> weapons, TimeScale timeScale) {
+        updatePipes(pipes, timeScale);
+        collisions.indexPipes(pipes);
+    }
+
+    /**
+     * Draws all components in a level as left by the last update, moved alpha of the way from their
+     * positions before it, returns nothing.
+     * @param pipes EntityDeque<Pipes>, pipes used within the level.
+     * @param bird Bird object used within the level.
+     * @param weapons EntityDeque<Weapon>, weapons used within the level.
      * @param message Message object used within the level, to display messages.
+     * @param queue RenderQueue object, drawn to the window once the frame is complete.
+     * @param alpha double, from 0 for the positions before the last update to 1 for the current positions.
      * @return void
      */
-    public abstract void update(Input input, LinkedList<Pipes> pipes, Bird bird, LinkedList<Weapon> weapons,
-                                   Background background, TimeScale timeScale, Message message);
+    public void render(EntityDeque<Pipes> pipes, Bird bird, EntityDeque<Weapon> weapons, Message message,
+                       RenderQueue queue, double alpha) {
+        bird.drawLifeBar(queue);
+
+        // Display pipes and weapons, skipping those off screen
+        for (Pipes pipe: pipes) {
+            if (pipe.isVisible()) {
+                pipe.draw(queue, alpha);
+            }
+        }
+        for (Weapon weapon: weapons) {
+            if (weapon.isVisible()) {
+                weapon.draw(queue, alpha);
+            }
+        }
+
+        // Bird and score board
+        if (bird.getIsAlive()) {
+            bird.draw(queue, alpha);
+            message.drawString(scoreText.getText(score), SCORE_POINT);
+        }
+    }
 
-    protected void updateBird(Input input, LinkedList<Pipes> pipes, Bird bird, Message message) {
+    protected void updateBird(int controls, EntityDeque<Pipes> pipes, Bird bird) {
         // Bird movement
-        if (input.wasPressed(Keys.SPACE)) {
+        if (Controls.isPressed(controls, Controls.FLAP)) {
             bird.move();
         } else {
             bird.fall();
         }
-        // Flap and draw bird
-        bird.draw();
+        // Flap
+        bird.flapWings();
 
-        updateScore(pipes, bird, message);
+        updateScore(pipes, bird);
     }
 
-    protected void updateScore(LinkedList<Pipes> pipes, Bird bird, Message message) {
+    protected void updateScore(EntityDeque<Pipes> pipes, Bird bird) {
         // Score count
         if (!pipes.getLast().getBirdIsThrough() && bird.throughPipes(pipes.getLast())) {
             setScore(getScore() + 1);
@@ -78,9 +137,6 @@ public abstract class Level {
         if (score >= maxLevelScore) {
             setIsLevelCompleted(!getIsLevelCompleted());
         }
-
-        // Score board
-        message.drawString(SCORE_MESSAGE + " " + score, SCORE_POINT);
     }
 
     /**
@@ -104,7 +160,116 @@ public abstract class Level {
      */
     public abstract Background createBackground();
 
-    protected abstract void updatePipes(LinkedList<Pipes> pipes, TimeScale timeScale);
+    /**
+     * Gets every image used while playing the level, for loading ahead of time.
+     * @return Sprite[] The images of the level.
+     */
+    public abstract Sprite[] getSprites();
+
+    /**
+     * Gets the images whose collision masks are used while playing the level, for loading ahead of time.
+     * @return Sprite[] The images with collision masks.
+     */
+    public abstract Sprite[] getCollisionSprites();
+
+    protected static Sprite[] joinSprites(Sprite[]... groups) {
+        int count = 0;
+        for (Sprite[] group : groups) {
+            count += group.length;
+        }
+        Sprite[] sprites = new Sprite[count];
+        int i = 0;
+        for (Sprite[] group : groups) {
+            for (Sprite sprite : group) {
+                sprites[i++] = sprite;
+            }
+        }
+        return sprites;
+    }
+
+    protected abstract void updatePipes(EntityDeque<Pipes> pipes, TimeScale timeScale);
+
+    protected void checkPipeCollision(EntityDeque<Pipes> pipes, Bird bird) {
+        if (bird.collisionCheck(bird, collisions, getBIRD_DAMAGE())) {
+            removeDestroyedPipes(pipes);
+        }
+    }
+
+    protected void removeDestroyedPipes(EntityDeque<Pipes> pipes) {
+        pipes.removeIf(isPipeDestroyed, releasePipe);
+    }
+
+    protected CollisionIndex getCollisions() {
+        return collisions;
+    }
+
+    /**
+     * Takes in initialScore, seed, pipes and weapons, and returns the level to the state it would have had if
+     * instantiated with initialScore and a GameRandom of seed, releasing every pipe and weapon to the pools
+     * so that a new episode reuses them, returns nothing.
+     * @param initialScore integer, the initial score which the level should start at.
+     * @param seed long, the seed of the level's randomness.
+     * @param pipes EntityDeque<Pipes>, pipes used within the level, emptied.
+     * @param weapons EntityDeque<Weapon>, weapons used within the level, emptied.
+     * @return void
+     */
+    public void reset(int initialScore, long seed, EntityDeque<Pipes> pipes, EntityDeque<Weapon> weapons) {
+        random.reseed(seed);
+        pipeInterval = 0;
+        frameCountPipes = 0;
+        isInitialRender = true;
+        score = initialScore;
+        isGameOver = false;
+        isLevelCompleted = false;
+        while (pipes.size() > 0) {
+            pipesPool.release(pipes.removeLast());
+        }
+        while (weapons.size() > 0) {
+            weaponPool.release(weapons.removeLast());
+        }
+    }
+
+    protected PipesPool getPipesPool() {
+        return pipesPool;
+    }
+
+    protected WeaponPool getWeaponPool() {
+        return weaponPool;
+    }
+
+    protected GameRandom getRandom() {
+        return random;
+    }
+
+    /**
+     * Takes in snapshot, and writes the level's progress and random state to it, returns nothing.
+     * @param snapshot WorldSnapshot object to write to.
+     * @return void
+     */
+    public void save(WorldSnapshot snapshot) {
+        snapshot.putDouble(pipeInterval);
+        snapshot.putInt(frameCountPipes);
+        snapshot.putBoolean(isInitialRender);
+        snapshot.putInt(score);
+        snapshot.putBoolean(isGameOver);
+        snapshot.putBoolean(isLevelCompleted);
+        random.save(snapshot);
+    }
+
+    /**
+     * Takes in snapshot, and reads the level's progress and random state back from it, returns nothing.
+     * @param snapshot WorldSnapshot object to read from.
+     * @return void
+     */
+    public void restore(WorldSnapshot snapshot) {
+        pipeInterval = snapshot.getDouble();
+        frameCountPipes = snapshot.getInt();
+        isInitialRender = snapshot.getBoolean();
+        score = snapshot.getInt();
+        isGameOver = snapshot.getBoolean();
+        isLevelCompleted = snapshot.getBoolean();
+        random.restore(snapshot);
+    }
 
     /**
      * Gets the pipeInterval.
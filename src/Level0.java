@@ -1,16 +1,11 @@
-import bagel.Image;
-import bagel.Input;
-import java.util.LinkedList;
-import java.util.Random;
-
 /**
  * Represents Level 0, with the ability to update the main elements on the screen.
  */
 public class Level0 extends Level {
     // Images
-    private final Image BIRD_WING_DOWN = new Image("res/level-0/birdWingDown.png");
-    private final Image BIRD_WING_UP = new Image("res/level-0/birdWingUp.png");
-    private final Image BACKGROUND = new Image("res/level-0/background.png");
+    private static final Sprite BIRD_WING_DOWN = new Sprite("res/level-0/birdWingDown.png");
+    private static final Sprite BIRD_WING_UP = new Sprite("res/level-0/birdWingUp.png");
+    private static final Sprite BACKGROUND = new Sprite("res/level-0/background.png");
 
     // Level flow
     private final int START_LIVES = 3;
@@ -18,98 +13,93 @@ public class Level0 extends Level {
     private final int[] GAPS = new int[]{100, 300, 500};
 
     /**
-     * Takes in initialScore, then instantiates a Level.
+     * Takes in initialScore, then instantiates a Level with an unseeded source of randomness.
      * @param initialScore integer, the initial score which the level should start at.
      */
     public Level0(int initialScore) {
-        super(initialScore, MAX_SCORE);
+        this(initialScore, new GameRandom());
+    }
+
+    /**
+     * Takes in initialScore and random, then instantiates a Level.
+     * @param initialScore integer, the initial score which the level should start at.
+     * @param random GameRandom, the source of all randomness within the level.
+     */
+    public Level0(int initialScore, GameRandom random) {
+        super(initialScore, MAX_SCORE, random);
     }
 
     /**
-     * Updates all components in a level, returns nothing.
-     * @param input Input object from which to detect key commands.
-     * @param pipes LinkedList<Pipes>, pipes used within the level.
+     * Updates all components in a level by a single frame, without drawing, returns nothing.
+     * @param controls int, the controls pressed this frame.
+     * @param pipes EntityDeque<Pipes>, pipes used within the level.
      * @param bird Bird object used within the level.
-     * @param weapons LinkedList<Weapon>, weapons used within the level.
+     * @param weapons EntityDeque<Weapon>, weapons used within the level.
      * @param background Background object used within the level.
      * @param timeScale TimeScale object used within the level
-     * @param message Message object used within the level, to display messages.
      * @return void
      */
     @Override
-    public void update(Input input, LinkedList<Pipes> pipes, Bird bird, LinkedList<Weapon> weapons,
-                       Background background, TimeScale timeScale, Message message) {
-        bird.drawLifeBar();
-        timeScale.timeScale(input);
+    public void update(int controls, EntityDeque<Pipes> pipes, Bird bird, EntityDeque<Weapon> weapons,
+                       Background background, TimeScale timeScale) {
+        timeScale.timeScale(controls);
         updatePipes(pipes, timeScale);
+        getCollisions().indexPipes(pipes);
 
         // Collisions
-        bird.collisionCheck(bird, pipes, getBIRD_DAMAGE());
+        checkPipeCollision(pipes, bird);
         bird.outOfBoundsCheck(bird, background, getBIRD_DAMAGE());
 
         // Determine if bird is alive
         if (bird.getIsAlive()) {
-            updateBird(input, pipes, bird, message);
+            updateBird(controls, pipes, bird);
         } else {
             setIsGameOver(!getIsGameOver());
         }
     }
 
     @Override
-    protected void updatePipes(LinkedList<Pipes> pipes, TimeScale timeScale) {
+    protected void updatePipes(EntityDeque<Pipes> pipes, TimeScale timeScale) {
         double multiplier = 0;
-        int gapStartY = 0;
-        Random random = new Random();
-        LinkedList<Pipes> cleanUpPile = new LinkedList<>();
-
-        // Get random gap start Y value
-        gapStartY = GAPS[random.nextInt(GAPS.length)];
 
         // Pipe movement
         if (!getIsInitialRender()) {
             setFrameCountPipes(getFrameCountPipes() + 1);
 
-            // Add unused/dead pipes to clean up
-            for (Pipes pipe: pipes) {
-                if (!pipe.getExists()) {
-                    cleanUpPile.addFirst(pipe);
-                    continue;
-                }
-                pipe.move();
-            }
+            // Remove unused/destroyed pipes
+            removeDestroyedPipes(pipes);
 
-            // Remove from cleanup
-            for (Pipes pipe: cleanUpPile) {
-                pipes.remove(pipe);
+            // Move pipes
+            for (int i = 0; i < pipes.size(); i++) {
+                pipes.get(i).move();
             }
 
             // Add pipes
             if (getFrameCountPipes() >= Math.round(getPipeInterval())) {
                 setFrameCountPipes(0);
-                pipes.addFirst(new PlasticPipes(gapStartY, timeScale));
+                pipes.addFirst(getPipesPool().acquirePlastic(nextGapStartY(), timeScale));
             }
 
         } else {
             // Initial render
             setFrameCountPipes(0);
             setIsInitialRender(!getIsInitialRender());
-            pipes.addFirst(new PlasticPipes(gapStartY, timeScale));
+            pipes.addFirst(getPipesPool().acquirePlastic(nextGapStartY(), timeScale));
         }
 
         // Remove pipes
         if (pipes.size() > 0 && pipes.getLast().isOutOfFrame()) {
-            pipes.removeLast();
+            getPipesPool().release(pipes.removeLast());
         }
 
         // pipes.getLast().timeScale(input);
         multiplier = pipes.getLast().getSpeedMultiplier();
         setPipeInterval(getINITIAL_PIPE_INTERVAL() / multiplier);
+    }
 
-        // Display pipes
-        for (Pipes pipe: pipes) {
-            pipe.draw();
-        }
-
+    // Random gap start Y value, drawn only when a pipe spawns
+    private int nextGapStartY() {
+        return GAPS[getRandom().nextInt(GAPS.length)];
     }
 
     /**
@@ -130,4 +120,23 @@ public class Level0 extends Level {
         return new Background(BACKGROUND);
     }
 
+    /**
+     * Gets every image used while playing the level, for loading ahead of time.
+     * @return Sprite[] The images of the level.
+     */
+    @Override
+    public Sprite[] getSprites() {
+        return joinSprites(new Sprite[]{BIRD_WING_DOWN, BIRD_WING_UP, BACKGROUND}, PlasticPipes.getSprites(),
+                LifeBar.getSprites());
+    }
+
+    /**
+     * Gets the images whose collision masks are used while playing the level, for loading ahead of time.
+     * @return Sprite[] The images with collision masks.
+     */
+    @Override
+    public Sprite[] getCollisionSprites() {
+        return new Sprite[]{BIRD_WING_DOWN, BIRD_WING_UP};
+    }
+
 }
@@ -1,17 +1,14 @@
-import bagel.Image;
-import bagel.Input;
-import bagel.Keys;
-import java.util.LinkedList;
-import java.util.Random;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * Represents Level 1, with the ability to update the main elements on the screen.
  */
 public class Level1 extends Level {
     // Images and messages
-    private final Image BIRD_WING_DOWN = new Image("res/level-1/birdWingDown.png");
-    private final Image BIRD_WING_UP = new Image("res/level-1/birdWingUp.png");
-    private final Image BACKGROUND = new Image("res/level-1/background.png");
+    private static final Sprite BIRD_WING_DOWN = new Sprite("res/level-1/birdWingDown.png");
+    private static final Sprite BIRD_WING_UP = new Sprite("res/level-1/birdWingUp.png");
+    private static final Sprite BACKGROUND = new Sprite("res/level-1/background.png");
     private final String SHOOT_MESSAGE = "PRESS 'S' TO SHOOT";
     private final int SHOOT_MESSAGE_TOP_PADDING = 68;
 
@@ -21,123 +18,154 @@ public class Level1 extends Level {
     private final int GAP_MAX = 500;
     private final int GAP_MIN = 100;
 
+    // Recycling
+    private final Predicate<Weapon> isWeaponDestroyed = weapon -> !weapon.getExists();
+    private final Consumer<Weapon> releaseWeapon;
+
+    // Weapons draw from their own stream, so weapon spawns never shift the pipe sequence
+    private final GameRandom weaponRandom;
+    private final SpawnPlacer spawnPlacer;
+
     /**
-     * Takes in initialScore, then instantiates a Level.
+     * Takes in initialScore, then instantiates a Level with an unseeded source of randomness.
      * @param initialScore integer, representing the initial score which the level should start at.
      */
     public Level1(int initialScore) {
-        super(initialScore, MAX_SCORE);
+        this(initialScore, new GameRandom());
+    }
+
+    /**
+     * Takes in initialScore and random, then instantiates a Level.
+     * @param initialScore integer, representing the initial score which the level should start at.
+     * @param random GameRandom, the source of all randomness within the level.
+     */
+    public Level1(int initialScore, GameRandom random) {
+        super(initialScore, MAX_SCORE, random);
+        this.weaponRandom = random.split();
+        this.spawnPlacer = new SpawnPlacer();
+        this.releaseWeapon = getWeaponPool()::release;
     }
 
     /**
-     * Updates all components in a level, returns nothing.
-     * @param input Input object from which to detect key commands.
-     * @param pipes LinkedList<Pipes>, pipes used within the level.
+     * Updates all components in a level by a single frame, without drawing, returns nothing.
+     * @param controls int, the controls pressed this frame.
+     * @param pipes EntityDeque<Pipes>, pipes used within the level.
      * @param bird Bird object used within the level.
-     * @param weapons LinkedList<Weapon>, weapons used within the level.
+     * @param weapons EntityDeque<Weapon>, weapons used within the level.
      * @param background Background object used within the level.
      * @param timeScale TimeScale object used within the level
-     * @param message Message object used within the level, to display messages.
      * @return void
      */
     @Override
-    public void update(Input input, LinkedList<Pipes> pipes, Bird bird, LinkedList<Weapon> weapons,
-                       Background background, TimeScale timeScale, Message message) {
-        bird.drawLifeBar();
-        timeScale.timeScale(input);
+    public void update(int controls, EntityDeque<Pipes> pipes, Bird bird, EntityDeque<Weapon> weapons,
+                       Background background, TimeScale timeScale) {
+        timeScale.timeScale(controls);
         updatePipes(pipes, timeScale);
+        getCollisions().indexPipes(pipes);
         updateWeapons(weapons, pipes, bird, timeScale);
 
         // Collisions
-        bird.collisionCheck(bird, pipes, getBIRD_DAMAGE());
+        checkPipeCollision(pipes, bird);
         bird.outOfBoundsCheck(bird, background, getBIRD_DAMAGE());
 
         // Determine if bird is alive
         if (bird.getIsAlive()) {
-            updateBird(input, pipes, bird, message);
+            updateBird(controls, pipes, bird);
         } else {
             setIsGameOver(!getIsGameOver());
         }
     }
 
     @Override
-    protected void updatePipes(LinkedList<Pipes> pipes, TimeScale timeScale) {
+    protected void updatePipes(EntityDeque<Pipes> pipes, TimeScale timeScale) {
         double multiplier = 0;
-        int gapStartY = 0;
-        Random random = new Random();
-        LinkedList<Pipes> cleanUpPile = new LinkedList<>();
-
-        // Get random gap start Y value
-        gapStartY = (GAP_MIN + getEXCLUSIVE()) + random.nextInt(GAP_MAX - GAP_MIN - getEXCLUSIVE());
 
         // Pipe movement
         if (!getIsInitialRender()) {
             setFrameCountPipes(getFrameCountPipes() + 1);
 
-            // Add unused/destroyed pipes to clean up
-            for (Pipes pipe: pipes) {
-                if (!pipe.getExists()) {
-                    cleanUpPile.addFirst(pipe);
-                    continue;
-                }
-                pipe.move();
-            }
+            // Remove unused/destroyed pipes
+            removeDestroyedPipes(pipes);
 
-            // Remove from cleanup
-            for (Pipes pipe: cleanUpPile) {
-                pipes.remove(pipe);
+            // Move pipes
+            for (int i = 0; i < pipes.size(); i++) {
+                pipes.get(i).move();
             }
 
             // Add pipes
             if (getFrameCountPipes() >= Math.round(getPipeInterval())) {
                 setFrameCountPipes(0);
-                if (random.nextBoolean()) {
-                    pipes.addFirst(new PlasticPipes(gapStartY, timeScale));
-                } else {
-                    pipes.addFirst(new SteelPipes(gapStartY, timeScale));
-                }
+                spawnPipe(pipes, timeScale);
             }
 
         } else {
             // Initial render
             setFrameCountPipes(0);
             setIsInitialRender(!getIsInitialRender());
-            if (random.nextBoolean()) {
-                pipes.addFirst(new PlasticPipes(gapStartY, timeScale));
-            } else {
-                pipes.addFirst(new SteelPipes(gapStartY, timeScale));
-            }
+            spawnPipe(pipes, timeScale);
         }
 
         // Remove pipes
         if (pipes.size() > 0 && pipes.getLast().isOutOfFrame()) {
-            pipes.removeLast();
+            getPipesPool().release(pipes.removeLast());
         }
 
         // pipes.getLast().timeScale(input);
         multiplier = pipes.getLast().getSpeedMultiplier();
         setPipeInterval(getINITIAL_PIPE_INTERVAL() / multiplier);
+    }
 
-        // Display pipes
-        for (Pipes pipe: pipes) {
-            pipe.draw();
+    private void spawnPipe(EntityDeque<Pipes> pipes, TimeScale timeScale) {
+        // Get random gap start Y value
+        int gapStartY = (GAP_MIN + getEXCLUSIVE()) + getRandom().nextInt(GAP_MAX - GAP_MIN - getEXCLUSIVE());
+
+        if (getRandom().nextBoolean()) {
+            pipes.addFirst(getPipesPool().acquirePlastic(gapStartY, timeScale));
+        } else {
+            pipes.addFirst(getPipesPool().acquireSteel(gapStartY, timeScale));
         }
+    }
 
+    /**
+     * Updates the pipes and weapons by a single frame, without a bird or drawing, so that many birds can
+     * share a world. Weapons spawn and drift as usual, but are never picked up, returns nothing.
+     * @param pipes EntityDeque<Pipes>, pipes used within the level.
+     * @param weapons EntityDeque<Weapon>, weapons used within the level.
+     * @param timeScale TimeScale object used within the level.
+     * @return void
+     */
+    @Override
+    public void updateWorld(EntityDeque<Pipes> pipes, EntityDeque<Weapon> weapons, TimeScale timeScale) {
+        super.updateWorld(pipes, weapons, timeScale);
+        moveWeapons(weapons);
+        spawnWeapon(weapons, timeScale);
+    }
+
+    protected void updateWeapons(EntityDeque<Weapon> weapons, EntityDeque<Pipes> pipes, Bird bird,
+                                 TimeScale timeScale) {
+        moveWeapons(weapons);
+
+        // Picked up weapon
+        int nearBird = getCollisions().queryWeapons(bird.getBird());
+        for (int i = 0; i < nearBird; i++) {
+            Weapon weapon = getCollisions().getWeaponResult(i);
+            if (weapon.getExists() && bird.getWeapon() != weapon && weapon.intersects(bird.getBird())) {
+                bird.pickUpWeapon(weapon);
+            }
+        }
+
+        spawnWeapon(weapons, timeScale);
     }
 
-    private void updateWeapons(LinkedList<Weapon> weapons, LinkedList<Pipes> pipes, Bird bird, TimeScale timeScale) {
-        boolean hasCollided = true, isWeaponInterval;
-        int weaponInterval;
-        double weaponY;
-        Weapon newWeapon = null;
-        Random random = new Random();
-        LinkedList<Weapon> cleanUpPile = new LinkedList<>();
-        double velocity;
-
-        for (Weapon weapon: weapons) {
-            // Add unused/destroyed weapons to clean up
+    private void moveWeapons(EntityDeque<Weapon> weapons) {
+        // Remove unused/destroyed weapons
+        weapons.removeIf(isWeaponDestroyed, releaseWeapon);
+
+        for (int i = 0; i < weapons.size(); i++) {
+            Weapon weapon = weapons.get(i);
+
+            // Destroyed during this frame
             if (!weapon.getExists()) {
-                cleanUpPile.addFirst(weapon);
                 continue;
             }
 
@@ -146,10 +174,9 @@ public class Level1 extends Level {
                 weapon.shotRangeCheck();
 
                 // Determine if weapon hits pipe
-                for (Pipes pipe: pipes) {
-                    if (weapon.detectShotCollision(pipe)) {
-                        setScore(getScore() + 1);
-                    }
+                int count = getCollisions().queryPipes(weapon.getWeapon());
+                for (int j = 0; j < count; j++) {
+                    setScore(getScore() + weapon.detectShotCollision(getCollisions().getPipeResult(j)));
                 }
             }
 
@@ -157,76 +184,59 @@ public class Level1 extends Level {
             if (!weapon.getIsPickedUp()) {
                 weapon.move();
             }
-
-            // Picked up weapon
-            if (bird.getWeapon() != weapon && weapon.intersects(bird.getBird())) {
-                bird.pickUpWeapon(weapon);
-            }
         }
 
-        // Remove from clean up
-        for (Weapon weapon: cleanUpPile) {
-            weapons.remove(weapon);
-        }
+        getCollisions().indexWeapons(weapons);
+    }
 
+    private void spawnWeapon(EntityDeque<Weapon> weapons, TimeScale timeScale) {
         // Weapon spawning
-        weaponInterval = (int)(getPipeInterval() * getWEAPON_MULTIPLIER());
-        isWeaponInterval = random.nextDouble() < getWEAPON_PROBABILITY();
-
-        if (getFrameCountPipes() == weaponInterval && isWeaponInterval) {
-            // Loop until no collisions detected
-            while (hasCollided) {
-                weaponY = GAP_MIN + random.nextDouble() * (GAP_MAX - GAP_MIN);
-                velocity = Weapon.INITIAL_VELOCITY * Math.pow(TimeScalable.MULTIPLIER,
-                        timeScale.getTimeScale() - 1);
-
-                // Choose weapon
-                if (random.nextBoolean()) {
-                    newWeapon = new Rock(velocity, weaponY, timeScale);
-                } else {
-                    newWeapon = new Bomb(velocity, weaponY, timeScale);
-                }
-
-                // Determine if weapon intersects itself
-                if (!(weapons.size() > 0 && newWeapon.intersects(weapons.getFirst().getWeapon()))) {
-                    hasCollided = false;
-                }
-
-                if (!hasCollided) {
-                    weapons.addFirst(newWeapon);
-                }
+        int weaponInterval = (int)(getPipeInterval() * getWEAPON_MULTIPLIER());
+        if (getFrameCountPipes() == weaponInterval && weaponRandom.nextDouble() < getWEAPON_PROBABILITY()) {
+            double velocity = Weapon.INITIAL_VELOCITY * timeScale.getSpeedMultiplier();
+
+            // Choose weapon, then place it within the free space near the spawn edge
+            Weapon newWeapon;
+            if (weaponRandom.nextBoolean()) {
+                newWeapon = getWeaponPool().acquireRock(velocity, GAP_MIN, timeScale);
+            } else {
+                newWeapon = getWeaponPool().acquireBomb(velocity, GAP_MIN, timeScale);
             }
-        }
+            double weaponY = spawnPlacer.place(newWeapon.getWeapon(), getCollisions(), GAP_MIN, GAP_MAX,
+                    weaponRandom.nextDouble());
 
-        // Draw
-        for (Weapon weapon: weapons) {
-            weapon.draw();
+            if (!Double.isNaN(weaponY)) {
+                newWeapon.reset(velocity, weaponY, timeScale);
+                weapons.addFirst(newWeapon);
+            } else {
+                getWeaponPool().release(newWeapon);
+            }
         }
 
         // Remove weapons
         if (weapons.size() > 0 && weapons.getLast().isOutOfFrame()) {
-            weapons.removeLast();
+            getWeaponPool().release(weapons.removeLast());
         }
 
     }
 
     @Override
-    protected void updateBird(Input input, LinkedList<Pipes> pipes, Bird bird, Message message) {
+    protected void updateBird(int controls, EntityDeque<Pipes> pipes, Bird bird) {
         // Bird movement
-        if (input.wasPressed(Keys.SPACE)) {
+        if (Controls.isPressed(controls, Controls.FLAP)) {
             bird.move();
         } else {
             bird.fall();
         }
-        // Flap and draw bird
-        bird.draw();
+        // Flap
+        bird.flapWings();
 
         // Attack
-        if (bird.triggeredAttack(input)) {
+        if (bird.triggeredAttack(controls)) {
             bird.attack();
         }
 
-        updateScore(pipes, bird, message);
+        updateScore(pipes, bird);
     }
 
     /**
@@ -239,6 +249,45 @@ public class Level1 extends Level {
         message.drawStringCentred(SHOOT_MESSAGE, getNO_PADDING(), SHOOT_MESSAGE_TOP_PADDING);
     }
 
+    /**
+     * Takes in initialScore, seed, pipes and weapons, and returns the level to the state it would have had if
+     * instantiated with initialScore and a GameRandom of seed, including the weapons' stream, returns nothing.
+     * @param initialScore integer, the initial score which the level should start at.
+     * @param seed long, the seed of the level's randomness.
+     * @param pipes EntityDeque<Pipes>, pipes used within the level, emptied.
+     * @param weapons EntityDeque<Weapon>, weapons used within the level, emptied.
+     * @return void
+     */
+    @Override
+    public void reset(int initialScore, long seed, EntityDeque<Pipes> pipes, EntityDeque<Weapon> weapons) {
+        super.reset(initialScore, seed, pipes, weapons);
+        getRandom().splitInto(weaponRandom);
+    }
+
+    /**
+     * Takes in snapshot, and writes the level's progress and random state, including the weapons' stream,
+     * to it, returns nothing.
+     * @param snapshot WorldSnapshot object to write to.
+     * @return void
+     */
+    @Override
+    public void save(WorldSnapshot snapshot) {
+        super.save(snapshot);
+        weaponRandom.save(snapshot);
+    }
+
+    /**
+     * Takes in snapshot, and reads the level's progress and random state, including the weapons' stream,
+     * back from it, returns nothing.
+     * @param snapshot WorldSnapshot object to read from.
+     * @return void
+     */
+    @Override
+    public void restore(WorldSnapshot snapshot) {
+        super.restore(snapshot);
+        weaponRandom.restore(snapshot);
+    }
+
     /**
      * Creates a bird object and returns it.
      * @return Bird Newly created bird object.
@@ -256,4 +305,23 @@ public class Level1 extends Level {
     public Background createBackground() {
         return new Background(BACKGROUND);
     }
+
+    /**
+     * Gets every image used while playing the level, for loading ahead of time.
+     * @return Sprite[] The images of the level.
+     */
+    @Override
+    public Sprite[] getSprites() {
+        return joinSprites(new Sprite[]{BIRD_WING_DOWN, BIRD_WING_UP, BACKGROUND}, PlasticPipes.getSprites(),
+                SteelPipes.getSprites(), Rock.getSprites(), Bomb.getSprites(), LifeBar.getSprites());
+    }
+
+    /**
+     * Gets the images whose collision masks are used while playing the level, for loading ahead of time.
+     * @return Sprite[] The images with collision masks.
+     */
+    @Override
+    public Sprite[] getCollisionSprites() {
+        return joinSprites(new Sprite[]{BIRD_WING_DOWN, BIRD_WING_UP}, Rock.getSprites(), Bomb.getSprites());
+    }
 }
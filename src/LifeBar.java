@@ -1,12 +1,10 @@
-import bagel.*;
-
 /**
  * Represents a life bar, allowing the life bar to draw and store the number of lives left for the player.
  */
 public class LifeBar implements Drawable {
     // Images
-    private final Image FULL_LIFE = new Image("res/level/fullLife.png");
-    private final Image NO_LIFE = new Image("res/level/noLife.png");
+    private static final Sprite FULL_LIFE = new Sprite("res/level/fullLife.png");
+    private static final Sprite NO_LIFE = new Sprite("res/level/noLife.png");
 
     // Position
     private final int ERROR = -1;
@@ -18,6 +16,14 @@ public class LifeBar implements Drawable {
     private boolean[] lifeBar;
     private int lives;
 
+    /**
+     * Gets the images used by life bars, for loading ahead of time.
+     * @return Sprite[] The images.
+     */
+    public static Sprite[] getSprites() {
+        return new Sprite[]{FULL_LIFE, NO_LIFE};
+    }
+
     /**
      * Takes in lives and instantiates a LifeBar.
      * @param lives integer, the max lives that the player starts with.
@@ -63,20 +69,21 @@ public class LifeBar implements Drawable {
     }
 
     /**
-     * Draws the lifeBar to the window based on its fixed coordinates.
+     * Takes in queue, and draws the lifeBar to the window based on its fixed coordinates.
      * Returns nothing.
+     * @param queue RenderQueue object, drawn to the window once the frame is complete.
      * @return void
      */
     @Override
-    public void draw() {
+    public void draw(RenderQueue queue) {
         double lifeX = LIFE_X_START;
 
         // Draw hearts based on boolean values
         for (int i = 0; i < lifeBar.length; i++) {
             if (lifeBar[i]) {
-                FULL_LIFE.drawFromTopLeft(lifeX, LIFE_Y);
+                queue.submitFromTopLeft(RenderQueue.LIFE_BAR, FULL_LIFE, lifeX, LIFE_Y);
             } else {
-                NO_LIFE.drawFromTopLeft(lifeX, LIFE_Y);
+                queue.submitFromTopLeft(RenderQueue.LIFE_BAR, NO_LIFE, lifeX, LIFE_Y);
             }
             // Add spacing
             if (i < lifeBar.length - 1) {
@@ -106,4 +113,36 @@ public class LifeBar implements Drawable {
     public int getLives() {
         return lives;
     }
+
+    /**
+     * Restores every life, returns nothing.
+     * @return void
+     */
+    public void reset() {
+        lives = lifeBar.length;
+        for (int i = 0; i < lifeBar.length; i++) {
+            lifeBar[i] = true;
+        }
+    }
+
+    /**
+     * Takes in snapshot, and writes the life bar's state to it, returns nothing.
+     * @param snapshot WorldSnapshot object to write to.
+     * @return void
+     */
+    public void save(WorldSnapshot snapshot) {
+        snapshot.putInt(lives);
+    }
+
+    /**
+     * Takes in snapshot, and reads the life bar's state back from it, returns nothing.
+     * @param snapshot WorldSnapshot object to read from.
+     * @return void
+     */
+    public void restore(WorldSnapshot snapshot) {
+        lives = snapshot.getInt();
+        for (int i = 0; i < lifeBar.length; i++) {
+            lifeBar[i] = i < lives;
+        }
+    }
 }
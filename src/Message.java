@@ -1,24 +1,27 @@
 import bagel.Font;
-import bagel.Window;
 import bagel.util.Point;
 
 /**
  * Represents a message, and includes key message actions such as drawing and positioning of messages to be
- * displayed to the screen.
+ * displayed to the screen. Messages are submitted to a RenderQueue, and so drawn over the frame's images.
+ * Centred messages are measured once and their positions kept in a TextLayoutCache.
  */
 public class Message {
     // Font styles
-    private final int FONT_SIZE;
     private final Font FONT;
+    private final RenderQueue queue;
+    private final TextLayoutCache layouts;
 
     /**
-     * Takes in font and fontSize, and instantiates a Message.
+     * Takes in font, fontSize and queue, and instantiates a Message.
      * @param font Font object, which is the font to be used for messsages.
      * @param fontSize integer, the font size to be used for messages.
+     * @param queue RenderQueue object, which messages are submitted to.
      */
-    public Message(Font font, int fontSize) {
+    public Message(Font font, int fontSize, RenderQueue queue) {
         this.FONT = font;
-        this.FONT_SIZE = fontSize;
+        this.queue = queue;
+        this.layouts = new TextLayoutCache(font, fontSize);
     }
 
     /**
@@ -29,7 +32,7 @@ public class Message {
      */
     public void drawStringCentred(String message) {
         Point point = getStringCentre(message);
-        FONT.drawString(message, point.x, point.y);
+        queue.submitText(FONT, message, point.x, point.y);
     }
 
     /**
@@ -43,7 +46,7 @@ public class Message {
      */
     public void drawStringCentred(String message, double paddingX, double paddingY) {
         Point point = getStringCentre(message);
-        FONT.drawString(message, point.x + paddingX, point.y +
+        queue.submitText(FONT, message, point.x + paddingX, point.y +
                 paddingY);
     }
 
@@ -55,23 +58,10 @@ public class Message {
      * @return void
      */
     public void drawString(String message, Point point) {
-        FONT.drawString(message, point.x, point.y);
+        queue.submitText(FONT, message, point.x, point.y);
     }
 
-
     private Point getStringCentre(String message) {
-        double stringWidth, leftPadding, topPadding;
-        stringWidth = FONT.getWidth(message);
-
-        // Centre horizontally
-        leftPadding = ((double) Window.getWidth() - stringWidth) / 2;
-
-        // Mathematically centre vertically
-        topPadding = ((double)Window.getHeight() + (double)FONT_SIZE) / 2;
-
-        // Uncomment below to visually centre vertically
-        // topPadding = ((double)Window.getHeight() + (double)FONT_SIZE / 2) / 2;
-
-        return new Point(leftPadding, topPadding);
+        return layouts.getCentre(message);
     }
 }
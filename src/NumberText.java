@@ -0,0 +1,32 @@
+/**
+ * Represents text made of a fixed label followed by a number, such as a score. The text is only rebuilt when
+ * the number changes, so drawing an unchanged number every frame builds no strings.
+ */
+public class NumberText {
+    private final String label;
+    private String text;
+    private int value;
+
+    /**
+     * Takes in label, and instantiates a NumberText showing 0.
+     * @param label String, the text shown before the number, separated from it by a space.
+     */
+    public NumberText(String label) {
+        this.label = label;
+        this.value = 0;
+        this.text = label + " " + value;
+    }
+
+    /**
+     * Takes in value, and gets the text showing it, rebuilding the text only if the value has changed.
+     * @param value int, the number to show.
+     * @return String The label followed by the number.
+     */
+    public String getText(int value) {
+        if (value != this.value) {
+            this.value = value;
+            this.text = label + " " + value;
+        }
+        return text;
+    }
+}
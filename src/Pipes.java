@@ -1,17 +1,13 @@
-import bagel.*;
-import bagel.util.Point;
-import bagel.util.Rectangle;
-
 /**
  * Represents pipes, allowing pipes to move and detect collisions with bird.
  */
-public abstract class Pipes implements Movable, Drawable, Damageable<Weapon> {
+public abstract class Pipes implements Movable, Drawable, Interpolable, Damageable<Weapon> {
     // Dimensions
-    private final double BOTTOM_PIPE_Y;
-    private final double BOTTOM_PIPE_Y_RECT;
-    private final double TOP_PIPE_Y;
-    private final double PIPE_LENGTH_TOP;
-    private final double PIPE_LENGTH_BOTTOM;
+    private double bottomPipeY;
+    private double bottomPipeYRect;
+    private double topPipeY;
+    private double pipeLengthTop;
+    private double pipeLengthBottom;
     private final double TOP_PIPE_Y_RECT = 0;
     private final int PIPE_SPACE = 168;
 
@@ -23,10 +19,8 @@ public abstract class Pipes implements Movable, Drawable, Damageable<Weapon> {
     private double pipeWidth;
 
     // Drawing and collision use
-    private Rectangle topPipe;
-    private Rectangle bottomPipe;
-    private Point topPipeTopLeft;
-    private Point bottomPipeTopLeft;
+    private Hitbox topPipe;
+    private Hitbox bottomPipe;
     private boolean exists;
 
     // Bird
@@ -40,28 +34,10 @@ public abstract class Pipes implements Movable, Drawable, Damageable<Weapon> {
      * @param pipeWidth double, pipe's width.
      */
     public Pipes(double gapStartY, double pipeWidth) {
-        // Initial position
-        this.gapStartY = gapStartY;
-        this.pipeX = Window.getWidth();
-
-        // Dimensions
-        this.BOTTOM_PIPE_Y = calcBottomPipeY();
-        this.TOP_PIPE_Y = calcTopPipeY();
-        this.BOTTOM_PIPE_Y_RECT = BOTTOM_PIPE_Y;
-        this.PIPE_LENGTH_TOP = gapStartY;
-        this.PIPE_LENGTH_BOTTOM = Window.getHeight() - (gapStartY + PIPE_SPACE);
         this.pipeWidth = pipeWidth;
-
-        // Initial Points
-        this.topPipeTopLeft = new Point(pipeX, TOP_PIPE_Y_RECT);
-        this.bottomPipeTopLeft = new Point(pipeX, BOTTOM_PIPE_Y_RECT);
-
-        // Rectangles
-        this.topPipe = new Rectangle(topPipeTopLeft.x, topPipeTopLeft.y, pipeWidth, getPipeLengthTop());
-        this.bottomPipe = new Rectangle(bottomPipeTopLeft.x, bottomPipeTopLeft.y, pipeWidth, getPipeLengthBottom());
-
-        this.birdIsThrough = false;
-        this.exists = true;
+        this.topPipe = new Hitbox(0, 0, 0, 0);
+        this.bottomPipe = new Hitbox(0, 0, 0, 0);
+        place(gapStartY);
         this.timeScale = null;
     }
 
@@ -76,13 +52,73 @@ public abstract class Pipes implements Movable, Drawable, Damageable<Weapon> {
         this.timeScale = scale;
     }
 
+    /**
+     * Takes in gapStartY, scale, and resets the pipe to a newly spawned state so that it can be reused,
+     * returns nothing.
+     * @param gapStartY double, Y value of the gap's starting position.
+     * @param scale The timeScale object affecting the speed of objects.
+     * @return void
+     */
+    public void reset(double gapStartY, TimeScale scale) {
+        place(gapStartY);
+        this.timeScale = scale;
+    }
+
+    private void place(double gapStartY) {
+        // Initial position
+        this.gapStartY = gapStartY;
+        this.pipeX = Viewport.WIDTH;
+
+        // Dimensions
+        this.bottomPipeY = calcBottomPipeY();
+        this.topPipeY = calcTopPipeY();
+        this.bottomPipeYRect = bottomPipeY;
+        this.pipeLengthTop = gapStartY;
+        this.pipeLengthBottom = Viewport.HEIGHT - (gapStartY + PIPE_SPACE);
+
+        // Rectangles
+        topPipe.moveTo(pipeX, TOP_PIPE_Y_RECT);
+        topPipe.resize(pipeWidth, getPipeLengthTop());
+        bottomPipe.moveTo(pipeX, bottomPipeYRect);
+        bottomPipe.resize(pipeWidth, getPipeLengthBottom());
+
+        this.birdIsThrough = false;
+        this.exists = true;
+    }
+
     /**
      * Draws both the pipes to the window.
      * Returns nothing.
+     * @param queue RenderQueue object, drawn to the window once the frame is complete.
      * @return void
      */
     @Override
-    public abstract void draw();
+    public void draw(RenderQueue queue) {
+        draw(queue, CURRENT);
+    }
+
+    /**
+     * Takes in queue and alpha, and draws the pipes between their previous and current positions,
+     * returns nothing.
+     * @param queue RenderQueue object, drawn to the window once the frame is complete.
+     * @param alpha double, from 0 for the previous position to 1 for the current position.
+     * @return void
+     */
+    @Override
+    public abstract void draw(RenderQueue queue, double alpha);
+
+    /**
+     * Determines whether either pipe may be seen within the window, measured by the hitboxes, which only
+     * cover the part of each pipe image that lies on screen.
+     * @return boolean Returns true if the pipes may be seen, and false otherwise.
+     */
+    public boolean isVisible() {
+        return Viewport.isVisible(topPipe) || Viewport.isVisible(bottomPipe);
+    }
+
+    protected double getDrawX(double alpha) {
+        return topPipe.interpolatedLeft(alpha);
+    }
 
     /**
      * Moves both pipes based on a given step value.
@@ -95,26 +131,16 @@ public abstract class Pipes implements Movable, Drawable, Damageable<Weapon> {
 
         // calculate and change to new position
         if (timeScale != null) {
-            velocity = INITIAL_VELOCITY * Math.pow(TimeScalable.MULTIPLIER, timeScale.getTimeScale() - 1);
+            velocity = INITIAL_VELOCITY * timeScale.getSpeedMultiplier();
         } else {
             velocity = INITIAL_VELOCITY;
         }
 
         setPipeX(pipeX - velocity);
-        setTopPipeTopLeft(new Point(pipeX, topPipeTopLeft.y));
-        setBottomPipeTopLeft(new Point(pipeX, bottomPipeTopLeft.y));
-
-        // move rectangles
-        topPipe.moveTo(topPipeTopLeft);
-        bottomPipe.moveTo(bottomPipeTopLeft);
-    }
 
-    private void setTopPipeTopLeft(Point topPipeTopLeft) {
-        this.topPipeTopLeft = topPipeTopLeft;
-    }
-
-    private void setBottomPipeTopLeft(Point bottomPipeTopLeft) {
-        this.bottomPipeTopLeft = bottomPipeTopLeft;
+        // move rectangles in place
+        topPipe.sweepTo(pipeX, topPipe.top());
+        bottomPipe.sweepTo(pipeX, bottomPipe.top());
     }
 
     private void setPipeX(double pipeX) {
@@ -122,12 +148,22 @@ public abstract class Pipes implements Movable, Drawable, Damageable<Weapon> {
     }
 
     /**
-     * Checks if a collision has occurred with a rectangle.
+     * Checks if a collision has occurred with a hitbox.
      * Returns true if intersection exists and false otherwise.
-     * @param rect Rectangle object to determine whether a collision exists.
+     * @param rect Hitbox object to determine whether a collision exists.
+     * @return boolean Returns true if a collision occurred, and false otherwise.
+     */
+    public boolean hasCollided(Hitbox rect) {
+        return hasCollidedBody(rect);
+    }
+
+    /**
+     * Checks if a collision with the body of either pipe has occurred with a hitbox, ignoring anything
+     * attached to the pipes.
+     * @param rect The hitbox object, to determine whether a collision exists.
      * @return boolean Returns true if a collision occurred, and false otherwise.
      */
-    public boolean hasCollided(Rectangle rect) {
+    public final boolean hasCollidedBody(Hitbox rect) {
         if (rect.intersects(topPipe) || rect.intersects(bottomPipe)) {
             return true;
         }
@@ -135,18 +171,18 @@ public abstract class Pipes implements Movable, Drawable, Damageable<Weapon> {
     }
 
     /**
-     * Gets the top pipe Rectangle.
-     * @return Rectangle representing the top pipe.
+     * Gets the top pipe Hitbox.
+     * @return Hitbox representing the top pipe.
      */
-    public Rectangle getTopPipe() {
+    public Hitbox getTopPipe() {
         return topPipe;
     }
 
     /**
-     * Gets the bottom pipe Rectangle.
-     * @return Rectangle representing the bottom pipe.
+     * Gets the bottom pipe Hitbox.
+     * @return Hitbox representing the bottom pipe.
      */
-    public Rectangle getBottomPipe() {
+    public Hitbox getBottomPipe() {
         return bottomPipe;
     }
 
@@ -156,24 +192,24 @@ public abstract class Pipes implements Movable, Drawable, Damageable<Weapon> {
     }
 
     protected double calcTopPipeY() {
-        double y = - (Window.getHeight() - gapStartY);
+        double y = - (Viewport.HEIGHT - gapStartY);
         return y;
     }
 
     protected double getBottomPipeY() {
-        return BOTTOM_PIPE_Y;
+        return bottomPipeY;
     }
 
     protected double getTopPipeY() {
-        return TOP_PIPE_Y;
+        return topPipeY;
     }
 
     protected double getPipeLengthTop() {
-        return PIPE_LENGTH_TOP;
+        return pipeLengthTop;
     }
 
     protected double getPipeLengthBottom() {
-        return PIPE_LENGTH_BOTTOM;
+        return pipeLengthBottom;
     }
 
     protected double getPipeX() {
@@ -208,11 +244,42 @@ public abstract class Pipes implements Movable, Drawable, Damageable<Weapon> {
     }
 
     /**
-     * Calculated and gets the speed multiplier value.
+     * Gets the speed multiplier value.
      * @return double Returns the multiplier to be used for altering object's speeds.
      */
     public double getSpeedMultiplier() {
-        return Math.pow(TimeScalable.MULTIPLIER, timeScale.getTimeScale() - 1);
+        return timeScale.getSpeedMultiplier();
+    }
+
+    /**
+     * Takes in snapshot, and writes the pipes' state to it, returns nothing.
+     * @param snapshot WorldSnapshot object to write to.
+     * @return void
+     */
+    public void save(WorldSnapshot snapshot) {
+        snapshot.putDouble(gapStartY);
+        snapshot.putDouble(pipeX);
+        snapshot.putBoolean(exists);
+        snapshot.putBoolean(birdIsThrough);
+        topPipe.save(snapshot);
+        bottomPipe.save(snapshot);
+    }
+
+    /**
+     * Takes in snapshot and scale, and reads the pipes' state back from it, returns nothing.
+     * @param snapshot WorldSnapshot object to read from.
+     * @param scale The timeScale object affecting the speed of objects.
+     * @return void
+     */
+    public void restore(WorldSnapshot snapshot, TimeScale scale) {
+        // Dimensions follow from the gap
+        place(snapshot.getDouble());
+        this.timeScale = scale;
+        this.pipeX = snapshot.getDouble();
+        this.exists = snapshot.getBoolean();
+        this.birdIsThrough = snapshot.getBoolean();
+        topPipe.restore(snapshot);
+        bottomPipe.restore(snapshot);
     }
 
     protected void perish() {
@@ -220,12 +287,23 @@ public abstract class Pipes implements Movable, Drawable, Damageable<Weapon> {
     }
 
     /**
-     * Takes in weapon and takes damage.
+     * Takes in weapon and takes damage, as given by the Interactions rules for the two types.
      * @param damage The damage object, in this case weapon, which inflicts damage on the pipes.
      * @return boolean Returns true if the pipe is alive, and false otherwise.
      */
     @Override
-    public abstract boolean takeDamage(Weapon damage);
+    public boolean takeDamage(Weapon damage) {
+        if (Interactions.destroysTarget(Interactions.find(damage.getTypeId(), getTypeId()))) {
+            perish();
+        }
+        return exists;
+    }
+
+    /**
+     * Gets the pipes' type.
+     * @return int The EntityType id of the pipes.
+     */
+    public abstract int getTypeId();
 
     /**
      * Gets the exists value.
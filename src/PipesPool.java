@@ -0,0 +1,61 @@
+import java.util.ArrayDeque;
+
+/**
+ * Represents a pool of plastic and steel pipes, recycling pipes that have left the level instead of
+ * creating new ones for every spawn.
+ */
+public class PipesPool {
+    private final ArrayDeque<PlasticPipes> plasticPipes;
+    private final ArrayDeque<SteelPipes> steelPipes;
+
+    /**
+     * Instantiates an empty PipesPool.
+     */
+    public PipesPool() {
+        this.plasticPipes = new ArrayDeque<>();
+        this.steelPipes = new ArrayDeque<>();
+    }
+
+    /**
+     * Takes in gapStartY and scale, and returns a recycled plastic pipe, or a new one if none are available.
+     * @param gapStartY double, Y value of the gap's starting position.
+     * @param scale The timeScale object, affecting the speed of objects.
+     * @return PlasticPipes A newly spawned plastic pipe.
+     */
+    public PlasticPipes acquirePlastic(double gapStartY, TimeScale scale) {
+        PlasticPipes pipe = plasticPipes.pollFirst();
+        if (pipe == null) {
+            return new PlasticPipes(gapStartY, scale);
+        }
+        pipe.reset(gapStartY, scale);
+        return pipe;
+    }
+
+    /**
+     * Takes in gapStartY and scale, and returns a recycled steel pipe, or a new one if none are available.
+     * @param gapStartY double, Y value of the gap's starting position.
+     * @param scale The timeScale object, affecting the speed of objects.
+     * @return SteelPipes A newly spawned steel pipe.
+     */
+    public SteelPipes acquireSteel(double gapStartY, TimeScale scale) {
+        SteelPipes pipe = steelPipes.pollFirst();
+        if (pipe == null) {
+            return new SteelPipes(gapStartY, scale);
+        }
+        pipe.reset(gapStartY, scale);
+        return pipe;
+    }
+
+    /**
+     * Takes in a pipe which is no longer within the level, and returns it to the pool, returns nothing.
+     * @param pipe Pipes object to be recycled.
+     * @return void
+     */
+    public void release(Pipes pipe) {
+        if (pipe instanceof SteelPipes) {
+            steelPipes.addFirst((SteelPipes) pipe);
+        } else if (pipe instanceof PlasticPipes) {
+            plasticPipes.addFirst((PlasticPipes) pipe);
+        }
+    }
+}
@@ -1,12 +1,11 @@
 import bagel.DrawOptions;
-import bagel.Image;
 
 /**
  * Represents plastic pipes, allowing pipes to move and detect collisions with bird.
  */
 public class PlasticPipes extends Pipes {
     // Image
-    private final static Image PIPE = new Image("res/level/plasticPipe.png");
+    private final static Sprite PIPE = new Sprite("res/level/plasticPipe.png");
 
     // Dimensions
     private final int ROTATION_DEGREES = 180;
@@ -14,6 +13,14 @@ public class PlasticPipes extends Pipes {
     // Drawing and collision use
     private DrawOptions topPipeOptions = new DrawOptions();
 
+    /**
+     * Gets the images used by plastic pipes, for loading ahead of time.
+     * @return Sprite[] The images.
+     */
+    public static Sprite[] getSprites() {
+        return new Sprite[]{PIPE};
+    }
+
     /**
      * Takes in gapStartY, and instantiates a plastic pipe.
      * @param gapStartY double, Y value of the gap's starting position.
@@ -32,25 +39,30 @@ public class PlasticPipes extends Pipes {
     }
 
     /**
-     * Draws both the pipes to the window.
+     * Takes in queue and alpha, and draws both the pipes to the window between their previous and current positions.
      * Returns nothing.
+     * @param queue RenderQueue object, drawn to the window once the frame is complete.
+     * @param alpha double, from 0 for the previous position to 1 for the current position.
      * @return void
      */
     @Override
-    public void draw() {
-        PIPE.drawFromTopLeft(getPipeX(), getBottomPipeY(),
-                topPipeOptions.setRotation(Math.toRadians(ROTATION_DEGREES)));
-        PIPE.drawFromTopLeft(getPipeX(), getTopPipeY());
+    public void draw(RenderQueue queue, double alpha) {
+        double pipeX = getDrawX(alpha);
+        if (Viewport.isVisible(getBottomPipe())) {
+            queue.submitFromTopLeft(RenderQueue.PIPES, PIPE, pipeX, getBottomPipeY(),
+                    topPipeOptions.setRotation(Math.toRadians(ROTATION_DEGREES)));
+        }
+        if (Viewport.isVisible(getTopPipe())) {
+            queue.submitFromTopLeft(RenderQueue.PIPES, PIPE, pipeX, getTopPipeY());
+        }
     }
 
     /**
-     * Takes in weapon and takes damage.
-     * @param damage The damage object, in this case weapon, which inflicts damage on the pipes.
-     * @return boolean Returns true if the pipe is alive, and false otherwise.
+     * Gets the pipes' type.
+     * @return int The EntityType id of the pipes.
      */
     @Override
-    public boolean takeDamage(Weapon damage) {
-        perish();
-        return false;
+    public int getTypeId() {
+        return EntityType.PLASTIC_PIPES;
     }
 }
@@ -0,0 +1,434 @@
+/**
+ * Represents a population of birds flying through one shared world of a level at once, for evaluating many
+ * controllers in a single run. The pipes and weapons are spawned and moved by the level as usual, but no bird
+ * can change them: a pipe hit by a bird is only gone for that bird, and weapons are never picked up.
+ * Birds are stored as parallel arrays rather than Bird objects. Each frame, the few pipes level with them are
+ * taken in turn, and each pipe's gap and flames are read once and compared against every bird's vertical
+ * extent in a single pass. One shared hitbox is placed over only those birds reaching a pipe or flame, so that
+ * the same mask-based collision rules as Bird apply.
+ * Running it directly flies birds which each aim a different distance from the centre of the next gap:
+ * <pre>java Population [level] [birds] [seed]</pre>
+ */
+public class Population {
+    // Scripted aims, for the demonstration and benchmark
+    private static final double AIM_SPREAD = 80;
+    private static final int MAX_TICKS = 100000;
+    private static final double NANOS_PER_SECOND = 1e9;
+    private static final int ERROR = -1;
+
+    private final Level level;
+    private final EntityDeque<Pipes> pipes;
+    private final EntityDeque<Weapon> weapons;
+    private final Background background;
+    private final TimeScale timeScale;
+    private final Bird template;
+    private final int size;
+    private final int damage;
+    private final int maxScore;
+
+    // Shared bird dimensions
+    private final double birdLeft;
+    private final double birdWidth;
+    private final double birdHeight;
+    private final double birdCentreX;
+    private final Hitbox probe;
+
+    // Birds, one entry per bird
+    private final double[] centreY;
+    private final double[] previousTop;
+    private final double[] velocity;
+    private final int[] lives;
+    private final int[] scores;
+    private final int[] survivalTicks;
+    private final long[] lastHitPipe;
+    private final boolean[] isAlive;
+    private final boolean[] isCompleted;
+    private int flying;
+
+    // Pipes are numbered in the order they spawn, so that birds can remember which pipe they hit
+    private long spawnedPipes;
+    private Pipes newestPipe;
+    private int ticks;
+
+    /**
+     * Takes in level and size, and instantiates a Population with every bird at the level's starting point.
+     * @param level Level object, whose rules, pipes and weapons the birds share.
+     * @param size int, the number of birds.
+     */
+    public Population(Level level, int size) {
+        this.level = level;
+        this.pipes = new EntityDeque<>();
+        this.weapons = new EntityDeque<>();
+        this.background = level.createBackground();
+        this.timeScale = new TimeScale();
+        this.template = level.createBird();
+        this.size = size;
+        this.damage = level.getBIRD_DAMAGE();
+        this.maxScore = level.getMaxLevelScore();
+
+        Hitbox bird = template.getBird();
+        this.birdLeft = bird.left();
+        this.birdWidth = bird.width();
+        this.birdHeight = bird.height();
+        this.birdCentreX = bird.centreX();
+        this.probe = new Hitbox(birdLeft, bird.top(), bird.getMask());
+
+        this.centreY = new double[size];
+        this.previousTop = new double[size];
+        this.velocity = new double[size];
+        this.lives = new int[size];
+        this.scores = new int[size];
+        this.survivalTicks = new int[size];
+        this.lastHitPipe = new long[size];
+        this.isAlive = new boolean[size];
+        this.isCompleted = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            centreY[i] = bird.centreY();
+            previousTop[i] = bird.top();
+            lives[i] = template.getLives();
+            lastHitPipe[i] = -1;
+            isAlive[i] = true;
+        }
+        this.flying = size;
+        this.spawnedPipes = 0;
+        this.newestPipe = null;
+        this.ticks = 0;
+    }
+
+    /**
+     * Takes in controls, one Controls bitmask per bird, and advances the world and every bird still flying by
+     * a single frame, returns nothing.
+     * @param controls int[], the controls of each bird, of which only FLAP is used.
+     * @return void
+     */
+    public void update(int[] controls) {
+        if (flying == 0) {
+            return;
+        }
+        ticks++;
+        level.updateWorld(pipes, weapons, timeScale);
+        template.flapWings();
+        probe.setMask(template.getBird().getMask());
+        if (pipes.getFirst() != newestPipe) {
+            newestPipe = pipes.getFirst();
+            spawnedPipes++;
+        }
+
+        // The oldest pipe is passed by every bird at once, as they all share the same x
+        long passedPipe = -1;
+        Pipes oldest = pipes.getLast();
+        if (!oldest.getBirdIsThrough() && birdCentreX > oldest.getBottomPipe().right() &&
+                birdCentreX > oldest.getTopPipe().right()) {
+            oldest.birdIsThrough();
+            passedPipe = spawnedPipes - pipes.size();
+        }
+
+        checkPipeCollisions();
+        for (int i = 0; i < size; i++) {
+            if (!isAlive[i] || isCompleted[i]) {
+                continue;
+            }
+
+            // Out of bounds, respawning without a sweep
+            probe.moveTo(birdLeft, previousTop[i]);
+            probe.sweepTo(birdLeft, centreY[i] - birdHeight / 2);
+            if (background.isOutOfBounds(probe)) {
+                takeDamage(i);
+                centreY[i] = Bird.BIRD_SPAWN_CENTRE_Y;
+                previousTop[i] = centreY[i] - birdHeight / 2;
+            }
+            if (!isAlive[i]) {
+                continue;
+            }
+
+            // Movement
+            if (Controls.isPressed(controls[i], Controls.FLAP)) {
+                velocity[i] = Bird.JUMP_VELOCITY;
+            } else if (velocity[i] < Bird.MAX_VELOCITY) {
+                velocity[i] = Math.min(velocity[i] + Bird.BIRD_ACCELERATION, Bird.MAX_VELOCITY);
+            }
+            previousTop[i] = centreY[i] - birdHeight / 2;
+            centreY[i] += velocity[i];
+
+            // Score, unless the pipe was hit and so is gone for this bird
+            if (passedPipe >= 0 && lastHitPipe[i] != passedPipe) {
+                scores[i]++;
+                if (scores[i] >= maxScore) {
+                    isCompleted[i] = true;
+                    survivalTicks[i] = ticks;
+                    flying--;
+                }
+            }
+        }
+    }
+
+    // Checks every bird against the pipes level with the birds, oldest first, as Bird.collisionCheck does for a
+    // single bird. Only birds whose extent reaches a pipe body, or whose swept extent reaches a lit flame, are
+    // given the exact mask test, the rest being clear of the pipe whatever their masks.
+    private void checkPipeCollisions() {
+        double birdRight = birdLeft + birdWidth;
+        for (int p = pipes.size() - 1; p >= 0; p--) {
+            Pipes pipe = pipes.get(p);
+            Hitbox topPipe = pipe.getTopPipe(), bottomPipe = pipe.getBottomPipe();
+            if (topPipe.left() > birdRight) {
+                break;
+            }
+            long number = spawnedPipes - 1 - p;
+
+            // Bodies are tested where the birds are now, so only count when level with the birds
+            boolean isTopLevel = topPipe.left() <= birdRight && topPipe.right() >= birdLeft;
+            boolean isBottomLevel = bottomPipe.left() <= birdRight && bottomPipe.right() >= birdLeft;
+            double topPipeTop = topPipe.top(), gapTop = topPipe.bottom();
+            double gapBottom = bottomPipe.top(), bottomPipeBottom = bottomPipe.bottom();
+
+            // Flames are swept, so are tested over the whole frame's motion
+            boolean isTopFlameLevel = false, isBottomFlameLevel = false;
+            double topFlameTop = 0, topFlameBottom = 0, bottomFlameTop = 0, bottomFlameBottom = 0;
+            if (pipe instanceof SteelPipes && ((SteelPipes) pipe).getIsFlaming()) {
+                Hitbox topFlame = ((SteelPipes) pipe).getTopFlame(), bottomFlame = ((SteelPipes) pipe).getBottomFlame();
+                isTopFlameLevel = topFlame.sweptLeft() <= birdRight && topFlame.sweptRight() >= birdLeft;
+                isBottomFlameLevel = bottomFlame.sweptLeft() <= birdRight && bottomFlame.sweptRight() >= birdLeft;
+                topFlameTop = topFlame.sweptTop();
+                topFlameBottom = topFlame.sweptBottom();
+                bottomFlameTop = bottomFlame.sweptTop();
+                bottomFlameBottom = bottomFlame.sweptBottom();
+            }
+            if (!isTopLevel && !isBottomLevel && !isTopFlameLevel && !isBottomFlameLevel) {
+                continue;
+            }
+
+            for (int i = 0; i < size; i++) {
+                if (!isAlive[i] || isCompleted[i] || lastHitPipe[i] == number) {
+                    continue;
+                }
+                double top = centreY[i] - birdHeight / 2, bottom = top + birdHeight;
+                double sweptTop = Math.min(top, previousTop[i]);
+                double sweptBottom = Math.max(top, previousTop[i]) + birdHeight;
+                boolean isNear = (isTopLevel && topPipeTop <= bottom && gapTop >= top) ||
+                        (isBottomLevel && gapBottom <= bottom && bottomPipeBottom >= top) ||
+                        (isTopFlameLevel && topFlameTop <= sweptBottom && topFlameBottom >= sweptTop) ||
+                        (isBottomFlameLevel && bottomFlameTop <= sweptBottom && bottomFlameBottom >= sweptTop);
+                if (!isNear) {
+                    continue;
+                }
+
+                // Place the shared hitbox over this bird, swept from its previous position
+                probe.moveTo(birdLeft, previousTop[i]);
+                probe.sweepTo(birdLeft, top);
+                if (pipe.hasCollided(probe)) {
+                    takeDamage(i);
+                    lastHitPipe[i] = number;
+                }
+            }
+        }
+    }
+
+    private void takeDamage(int i) {
+        lives[i] -= damage;
+        if (lives[i] <= 0) {
+            isAlive[i] = false;
+            survivalTicks[i] = ticks;
+            flying--;
+        }
+    }
+
+    /**
+     * Takes in aims and controls, and fills in the controls of birds which flap whenever they are below the
+     * centre of the next gap, offset by their aim, returns nothing.
+     * @param aims double[], each bird's offset from the centre of the gap, downwards.
+     * @param controls int[], filled with the controls of each bird.
+     * @return void
+     */
+    public void aim(double[] aims, int[] controls) {
+        double target = Bird.BIRD_SPAWN_CENTRE_Y;
+        for (int p = pipes.size() - 1; p >= 0; p--) {
+            Pipes pipe = pipes.get(p);
+            if (pipe.getTopPipe().right() >= birdLeft) {
+                target = (pipe.getTopPipe().bottom() + pipe.getBottomPipe().top()) / 2;
+                break;
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            controls[i] = centreY[i] > target + aims[i] ? Controls.FLAP : Controls.NONE;
+        }
+    }
+
+    /**
+     * Takes in size, and creates aims for that many birds, spread evenly about the centre of the gap.
+     * @param size int, the number of birds.
+     * @return double[] The aim of each bird, for use with aim.
+     */
+    public static double[] spreadAims(int size) {
+        double[] aims = new double[size];
+        for (int i = 0; i < size; i++) {
+            aims[i] = -AIM_SPREAD + 2 * AIM_SPREAD * i / Math.max(size - 1, 1);
+        }
+        return aims;
+    }
+
+    /**
+     * Takes in queue and alpha, and draws the world and every bird still flying, moved alpha of the way from
+     * their positions before the last update, returns nothing.
+     * @param queue RenderQueue object, drawn to the window once the frame is complete.
+     * @param alpha double, from 0 for the positions before the last update to 1 for the current positions.
+     * @return void
+     */
+    public void render(RenderQueue queue, double alpha) {
+        background.draw(queue);
+        for (Pipes pipe: pipes) {
+            if (pipe.isVisible()) {
+                pipe.draw(queue, alpha);
+            }
+        }
+        for (Weapon weapon: weapons) {
+            if (weapon.isVisible()) {
+                weapon.draw(queue, alpha);
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            if (isAlive[i] && !isCompleted[i]) {
+                double top = centreY[i] - birdHeight / 2;
+                template.drawAt(queue, previousTop[i] + (top - previousTop[i]) * alpha + birdHeight / 2);
+            }
+        }
+    }
+
+    /**
+     * Gets the number of birds.
+     * @return int The number of birds in the population.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Gets the number of birds still flying, neither dead nor having completed the level.
+     * @return int The number of birds still flying.
+     */
+    public int getFlying() {
+        return flying;
+    }
+
+    /**
+     * Gets the number of frames played.
+     * @return int The number of updates which advanced the world.
+     */
+    public int getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Gets the y value of each bird's centre.
+     * @return double[] The centre of each bird.
+     */
+    public double[] getCentreY() {
+        return centreY;
+    }
+
+    /**
+     * Gets each bird's vertical velocity.
+     * @return double[] The velocity of each bird.
+     */
+    public double[] getVelocity() {
+        return velocity;
+    }
+
+    /**
+     * Gets each bird's lives left.
+     * @return int[] The lives of each bird.
+     */
+    public int[] getLives() {
+        return lives;
+    }
+
+    /**
+     * Gets each bird's score.
+     * @return int[] The score of each bird.
+     */
+    public int[] getScores() {
+        return scores;
+    }
+
+    /**
+     * Gets the frame on which each bird died or completed the level, or 0 while still flying.
+     * @return int[] The survival of each bird, in frames.
+     */
+    public int[] getSurvivalTicks() {
+        return survivalTicks;
+    }
+
+    /**
+     * Gets whether each bird is alive.
+     * @return boolean[] Whether each bird is alive.
+     */
+    public boolean[] getIsAlive() {
+        return isAlive;
+    }
+
+    /**
+     * Gets whether each bird has completed the level.
+     * @return boolean[] Whether each bird has completed the level.
+     */
+    public boolean[] getIsCompleted() {
+        return isCompleted;
+    }
+
+    /**
+     * Gets the shared pipes.
+     * @return EntityDeque<Pipes> The pipes flown through by every bird.
+     */
+    public EntityDeque<Pipes> getPipes() {
+        return pipes;
+    }
+
+    /**
+     * Gets the shared weapons.
+     * @return EntityDeque<Weapon> The weapons within the world.
+     */
+    public EntityDeque<Weapon> getWeapons() {
+        return weapons;
+    }
+
+    /**
+     * The entry point for flying a population with evenly spread aims, reporting the best aim found and the
+     * birds simulated per second.
+     * @param args String[], optionally the level, the number of birds and the seed.
+     * @return void
+     */
+    public static void main(String[] args) {
+        int levelNumber = args.length > 0 ? Integer.parseInt(args[0]) : 1;
+        int size = args.length > 1 ? Integer.parseInt(args[1]) : 10000;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 0;
+        if ((levelNumber != 0 && levelNumber != 1) || size < 1) {
+            System.out.println("Usage: java Population [0|1] [birds] [seed]");
+            System.exit(ERROR);
+        }
+
+        GameRandom random = new GameRandom(seed);
+        Level level = levelNumber == 0 ? new Level0(0, random) : new Level1(0, random);
+        Population population = new Population(level, size);
+        double[] aims = spreadAims(size);
+        int[] controls = new int[size];
+
+        long start = System.nanoTime(), birdTicks = 0;
+        while (population.getFlying() > 0 && population.getTicks() < MAX_TICKS) {
+            birdTicks += population.getFlying();
+            population.aim(aims, controls);
+            population.update(controls);
+        }
+        double elapsed = (System.nanoTime() - start) / NANOS_PER_SECOND;
+
+        int best = 0, completed = 0;
+        for (int i = 0; i < size; i++) {
+            if (population.getIsCompleted()[i]) {
+                completed++;
+            }
+            if (population.getScores()[i] > population.getScores()[best]) {
+                best = i;
+            }
+        }
+        System.out.printf("Level %d, %d birds over %d frames: %d completed, best score %d with aim %.1f%n",
+                levelNumber, size, population.getTicks(), completed, population.getScores()[best], aims[best]);
+        System.out.printf("%.0f bird frames per second%n", birdTicks / elapsed);
+    }
+}
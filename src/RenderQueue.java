@@ -0,0 +1,248 @@
+import bagel.DrawOptions;
+import bagel.Font;
+import java.util.Arrays;
+
+/**
+ * Represents the draws of a single frame, collected from every Drawable and issued together once the frame
+ * is complete. Draws are sorted by layer and then by image, so that each image's draws within a layer run
+ * back to back rather than switching textures between every object, while text is always drawn last.
+ * Within an image, draws keep the order they were submitted in. The number of draws and texture switches
+ * of the last frame are counted, so batching can be measured.
+ */
+public class RenderQueue {
+    /**
+     * The background, drawn first.
+     */
+    public static final int BACKGROUND = 0;
+
+    /**
+     * The life bar, over the background but under the pipes, so pipes passing the top of the screen cover it.
+     */
+    public static final int LIFE_BAR = 1;
+
+    /**
+     * Pipes.
+     */
+    public static final int PIPES = 2;
+
+    /**
+     * Flames of steel pipes, over the pipes.
+     */
+    public static final int FLAMES = 3;
+
+    /**
+     * Weapons, including those carried by birds.
+     */
+    public static final int WEAPONS = 4;
+
+    /**
+     * Birds.
+     */
+    public static final int BIRDS = 5;
+
+    /**
+     * Text, drawn over everything else.
+     */
+    public static final int TEXT = 6;
+
+    // Sort keys hold the layer, then the image, then the submission order
+    private static final int ORDER_BITS = 24;
+    private static final int IMAGE_BITS = 24;
+    private static final long ORDER_MASK = (1L << ORDER_BITS) - 1;
+    private static final int TEXT_IMAGE = 0;
+    private static final int INITIAL_CAPACITY = 64;
+
+    // Commands, one entry per draw
+    private Sprite[] sprites;
+    private Font[] fonts;
+    private String[] texts;
+    private DrawOptions[] options;
+    private double[] xs;
+    private double[] ys;
+    private boolean[] isCentred;
+    private long[] keys;
+    private int count;
+
+    // Counters of the last flush
+    private int drawCalls;
+    private int textureSwitches;
+    private int unsortedTextureSwitches;
+
+    /**
+     * Instantiates an empty RenderQueue.
+     */
+    public RenderQueue() {
+        this.sprites = new Sprite[INITIAL_CAPACITY];
+        this.fonts = new Font[INITIAL_CAPACITY];
+        this.texts = new String[INITIAL_CAPACITY];
+        this.options = new DrawOptions[INITIAL_CAPACITY];
+        this.xs = new double[INITIAL_CAPACITY];
+        this.ys = new double[INITIAL_CAPACITY];
+        this.isCentred = new boolean[INITIAL_CAPACITY];
+        this.keys = new long[INITIAL_CAPACITY];
+        this.count = 0;
+    }
+
+    /**
+     * Takes in layer, sprite and a position, and queues the sprite to be drawn centred there, returns nothing.
+     * @param layer int, the layer to draw in, such as PIPES.
+     * @param sprite Sprite object to draw.
+     * @param x double, the x value of the centre.
+     * @param y double, the y value of the centre.
+     * @return void
+     */
+    public void submit(int layer, Sprite sprite, double x, double y) {
+        add(layer, sprite.getId(), x, y);
+        sprites[count - 1] = sprite;
+        isCentred[count - 1] = true;
+    }
+
+    /**
+     * Takes in layer, sprite and a position, and queues the sprite to be drawn with its top left there,
+     * returns nothing.
+     * @param layer int, the layer to draw in, such as PIPES.
+     * @param sprite Sprite object to draw.
+     * @param x double, the x value of the top left.
+     * @param y double, the y value of the top left.
+     * @return void
+     */
+    public void submitFromTopLeft(int layer, Sprite sprite, double x, double y) {
+        add(layer, sprite.getId(), x, y);
+        sprites[count - 1] = sprite;
+    }
+
+    /**
+     * Takes in layer, sprite, a position and drawOptions, and queues the sprite to be drawn with its top left
+     * there, returns nothing. The options are read when the queue is flushed, so must not change before then.
+     * @param layer int, the layer to draw in, such as PIPES.
+     * @param sprite Sprite object to draw.
+     * @param x double, the x value of the top left.
+     * @param y double, the y value of the top left.
+     * @param drawOptions DrawOptions object, the options to draw the sprite with.
+     * @return void
+     */
+    public void submitFromTopLeft(int layer, Sprite sprite, double x, double y, DrawOptions drawOptions) {
+        add(layer, sprite.getId(), x, y);
+        sprites[count - 1] = sprite;
+        options[count - 1] = drawOptions;
+    }
+
+    /**
+     * Takes in font, text and a position, and queues the text to be drawn there, over all images,
+     * returns nothing.
+     * @param font Font object to draw with.
+     * @param text String, the text to draw.
+     * @param x double, the x value of the left of the text.
+     * @param y double, the y value of the baseline of the text.
+     * @return void
+     */
+    public void submitText(Font font, String text, double x, double y) {
+        add(TEXT, TEXT_IMAGE, x, y);
+        fonts[count - 1] = font;
+        texts[count - 1] = text;
+    }
+
+    private void add(int layer, int image, double x, double y) {
+        if (count == keys.length) {
+            grow();
+        }
+        xs[count] = x;
+        ys[count] = y;
+        keys[count] = ((long) layer << (IMAGE_BITS + ORDER_BITS)) | ((long) image << ORDER_BITS) | count;
+        count++;
+    }
+
+    private void grow() {
+        int capacity = keys.length * 2;
+        sprites = Arrays.copyOf(sprites, capacity);
+        fonts = Arrays.copyOf(fonts, capacity);
+        texts = Arrays.copyOf(texts, capacity);
+        options = Arrays.copyOf(options, capacity);
+        xs = Arrays.copyOf(xs, capacity);
+        ys = Arrays.copyOf(ys, capacity);
+        isCentred = Arrays.copyOf(isCentred, capacity);
+        keys = Arrays.copyOf(keys, capacity);
+    }
+
+    /**
+     * Draws every queued command in layer and image order, then empties the queue, returns nothing.
+     * @return void
+     */
+    public void flush() {
+        // Switches had the commands been drawn as submitted, for comparison
+        unsortedTextureSwitches = 0;
+        for (int i = 0; i < count; i++) {
+            if (i == 0 || image(keys[i]) != image(keys[i - 1])) {
+                unsortedTextureSwitches++;
+            }
+        }
+
+        Arrays.sort(keys, 0, count);
+        textureSwitches = 0;
+        for (int i = 0; i < count; i++) {
+            if (i == 0 || image(keys[i]) != image(keys[i - 1])) {
+                textureSwitches++;
+            }
+            draw((int) (keys[i] & ORDER_MASK));
+        }
+        drawCalls = count;
+
+        // Release references until the next frame
+        Arrays.fill(sprites, 0, count, null);
+        Arrays.fill(fonts, 0, count, null);
+        Arrays.fill(texts, 0, count, null);
+        Arrays.fill(options, 0, count, null);
+        Arrays.fill(isCentred, 0, count, false);
+        count = 0;
+    }
+
+    // The layer and image of a key, which together decide the texture bound
+    private static long image(long key) {
+        return key >>> ORDER_BITS;
+    }
+
+    private void draw(int i) {
+        if (texts[i] != null) {
+            fonts[i].drawString(texts[i], xs[i], ys[i]);
+        } else if (isCentred[i]) {
+            sprites[i].draw(xs[i], ys[i]);
+        } else if (options[i] != null) {
+            sprites[i].drawFromTopLeft(xs[i], ys[i], options[i]);
+        } else {
+            sprites[i].drawFromTopLeft(xs[i], ys[i]);
+        }
+    }
+
+    /**
+     * Gets the number of commands queued and not yet flushed.
+     * @return int The number of queued commands.
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Gets the number of draws issued by the last flush.
+     * @return int The draw calls of the last frame.
+     */
+    public int getDrawCalls() {
+        return drawCalls;
+    }
+
+    /**
+     * Gets the number of times the last flush moved on to a different image or font.
+     * @return int The texture switches of the last frame.
+     */
+    public int getTextureSwitches() {
+        return textureSwitches;
+    }
+
+    /**
+     * Gets the number of texture switches the last flush would have made had it drawn the commands in the
+     * order they were submitted, for measuring the reduction from sorting.
+     * @return int The texture switches of the last frame without sorting.
+     */
+    public int getUnsortedTextureSwitches() {
+        return unsortedTextureSwitches;
+    }
+}
@@ -0,0 +1,47 @@
+/**
+ * Plays back a recorded session headlessly, as fast as the simulation allows, and reports how it ended.
+ * Used to reproduce bugs from a recording and to time the simulation for performance regressions.
+ * Run from the project root so that the images in res/ resolve:
+ * <pre>java Replay session.sfr [repeats]</pre>
+ */
+public class Replay {
+    private static final int ERROR = -1;
+    private static final double NANOS_PER_MILLI = 1e6;
+
+    /**
+     * Takes in recording, and plays it back through a new session seeded as the recorded one was.
+     * @param recording InputRecording, the recording to play back.
+     * @return GameSession The session as left after the last recorded tick.
+     */
+    public static GameSession play(InputRecording recording) {
+        GameSession session = new GameSession(recording.getSeed());
+        session.play(new ReplayInput(recording), recording.size());
+        return session;
+    }
+
+    /**
+     * The entry point for replaying a recording.
+     * @param args String[], the recording path, optionally followed by the number of times to replay it.
+     * @return void
+     */
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.out.println("Usage: java Replay <recording> [repeats]");
+            System.exit(ERROR);
+        }
+        InputRecording recording = InputRecording.load(args[0]);
+        int repeats = args.length > 1 ? Integer.parseInt(args[1]) : 1;
+
+        GameSession session = null;
+        long start = System.nanoTime();
+        for (int i = 0; i < repeats; i++) {
+            session = play(recording);
+        }
+        double elapsed = (System.nanoTime() - start) / NANOS_PER_MILLI / repeats;
+
+        String outcome = !session.getIsGameOver() ? "unfinished" : session.getIsWon() ? "won" : "lost";
+        System.out.printf("seed %d, %d ticks: %s with score %d%n", recording.getSeed(), recording.size(),
+                outcome, session.getScore());
+        System.out.printf("%.3f ms per replay%n", elapsed);
+    }
+}
@@ -0,0 +1,43 @@
+/**
+ * Represents a recording being played back as an InputSource, providing its ticks in order, then no keys once
+ * the recording has finished.
+ */
+public class ReplayInput implements InputSource {
+    private final InputRecording recording;
+    private int tick;
+
+    /**
+     * Takes in recording, and instantiates a ReplayInput from its first tick.
+     * @param recording InputRecording, the recording to play back.
+     */
+    public ReplayInput(InputRecording recording) {
+        this.recording = recording;
+        this.tick = 0;
+    }
+
+    /**
+     * Takes in session, and provides the recorded controls of the next tick.
+     * @param session GameSession object about to be advanced.
+     * @return int The recorded controls, or none once the recording has finished.
+     */
+    @Override
+    public int nextControls(GameSession session) {
+        return tick < recording.size() ? recording.get(tick++) : Controls.NONE;
+    }
+
+    /**
+     * Determines whether any recorded ticks are left.
+     * @return boolean Returns true if the recording has not finished, and false otherwise.
+     */
+    public boolean hasNext() {
+        return tick < recording.size();
+    }
+
+    /**
+     * Goes back to the first tick of the recording, returns nothing.
+     * @return void
+     */
+    public void rewind() {
+        tick = 0;
+    }
+}
@@ -1,10 +1,15 @@
-import bagel.Image;
-import bagel.Window;
-
 public class Rock extends Weapon {
-    private final static Image ROCK = new Image("res/level-1/rock.png");
+    private final static Sprite ROCK = new Sprite("res/level-1/rock.png");
     private final int MAX_SHOT_DISTANCE_FRAMES = 25;
 
+    /**
+     * Gets the images used by rocks, for loading ahead of time.
+     * @return Sprite[] The images.
+     */
+    public static Sprite[] getSprites() {
+        return new Sprite[]{ROCK};
+    }
+
     /**
      * Takes in velocity and rockY, then instantiates a Rock.
      * @param velocity double, velocity which the rock is travelling.
@@ -25,12 +30,16 @@ public class Rock extends Weapon {
     }
 
     /**
-     * Draws weapon to the window, returns nothing.
+     * Takes in queue and alpha, and draws weapon to the window between its previous and current positions,
+     * returns nothing.
+     * @param queue RenderQueue object, drawn to the window once the frame is complete.
+     * @param alpha double, from 0 for the previous position to 1 for the current position.
      * @return void
      */
     @Override
-    public void draw() {
-        ROCK.drawFromTopLeft(getWeaponX(), getWeaponY());
+    public void draw(RenderQueue queue, double alpha) {
+        queue.submitFromTopLeft(RenderQueue.WEAPONS, ROCK, getWeapon().interpolatedLeft(alpha),
+                getWeapon().interpolatedTop(alpha));
     }
 
     /**
@@ -39,7 +48,7 @@ public class Rock extends Weapon {
      */
     @Override
     public boolean isOutOfFrame() {
-        if ((getWeaponX() + ROCK.getWidth()) < 0 || (getWeaponX() > Window.getWidth())) {
+        if ((getWeaponX() + ROCK.getWidth()) < 0 || (getWeaponX() > Viewport.WIDTH)) {
             return true;
         }
         return false;
@@ -52,7 +61,7 @@ public class Rock extends Weapon {
      */
     @Override
     public void moveWithBird(Bird bird) {
-        moveTo(bird.getBird().right(), bird.getBird().centre().y - ROCK.getHeight() / 2);
+        sweepTo(bird.getBird().right(), bird.getBird().centreY() - ROCK.getHeight() / 2);
     }
 
     /**
@@ -67,20 +76,11 @@ public class Rock extends Weapon {
     }
 
     /**
-     * Checks whether a collision occurred between a pipe and a weapon.
-     * @param pipes Pipe object, on which the collision is to be detected on.
-     * @return boolean Returns true if a collision occurred, and false otherwise.
+     * Gets the weapon's type.
+     * @return int The EntityType id of the weapon.
      */
     @Override
-    public boolean detectShotCollision(Pipes pipes) {
-        boolean pipeIsAlive = true;
-        // Check if collision occurs
-        if (pipes.getTopPipe().intersects(getWeapon()) ||
-                pipes.getBottomPipe().intersects(getWeapon())) {
-            // Pipe and weapon both take damage
-            pipeIsAlive = pipes.takeDamage(this);
-            perish();
-        }
-        return !pipeIsAlive;
+    public int getTypeId() {
+        return EntityType.ROCK;
     }
 }
@@ -1,5 +1,6 @@
 import bagel.*;
-import java.util.LinkedList;
+import bagel.util.Point;
+import java.io.IOException;
 
 /*
 // Packages for testing, uncomment to enable grid lines
@@ -21,61 +22,127 @@ public class ShadowFlap extends AbstractGame {
     private final String FINAL_SCORE_MESSAGE = "FINAL SCORE:";
     private final String GAME_LOST_MESSAGE = "GAME OVER";
     private final String LEVEL_UP_MESSAGE = "LEVEL-UP!";
+    private final String FLYING_MESSAGE = "FLYING:";
+    private final Point FLYING_POINT = new Point(100, 100);
+    private final String DRAW_STATS_MESSAGE = "DRAWS:";
+    private final String TEXTURES_MESSAGE = "TEXTURES:";
+    private final Point DRAW_STATS_POINT = new Point(100, 740);
     private final int FINAL_SCORE_TOP_PADDING = 75;
+    private final NumberText finalScoreText = new NumberText(FINAL_SCORE_MESSAGE);
+    private final NumberText flyingText = new NumberText(FLYING_MESSAGE);
 
     // Game flow
     private final int NO_PADDING = 0;
     private final int SUCCESS = 0;
-    private final int INITIAL_SCORE = 0;
-    private final int PAUSE_MESSAGE_FRAMES = 20;
-    private final int LAST_LEVEL = 1;
-    private int frameCountMessage;
-    private int score;
-    private boolean isGameRunning;
-    private boolean isWon;
+
+    // Simulation timing
+    private final int TICK_RATE = 60;
+    private final int MAX_TICKS_PER_FRAME = 5;
+    private FixedTimestep timestep;
+    private KeyboardInput keyboard;
+
+    // Recording, null unless enabled
+    private InputRecording recording;
+
+    // Autopilot, null unless enabled, sharing the frame with drawing
+    private final long AUTOPILOT_BUDGET_NANOS = 12_000_000L;
+    private Autopilot autopilot;
+
+    // Population shown instead of a session, null unless enabled
+    private Population population;
+    private double[] populationAims;
+    private int[] populationControls;
+
+    // Images, with the next level's loaded in the background during play
+    private final int BYTES_PER_KILOBYTE = 1024;
+    private AssetManager assets;
+    private Level loadedLevel;
+
+    // Drawing, queued through the frame and flushed at its end
+    private RenderQueue renderQueue;
+    private boolean showDrawStats;
+
+    // Draw statistics shown, with the text only rebuilt when one changes
+    private String drawStatsText;
+    private int shownDrawCalls;
+    private int shownTextureSwitches;
+    private int shownUnsortedTextureSwitches;
+    private long shownTextureKilobytes;
 
     // Game objects
-    private LinkedList<Pipes> pipes;
-    private LinkedList<Weapon> weapons;
-    private Background background;
-    private Bird bird;
+    private GameSession session;
     private Message message;
-    private TimeScale timeScale;
-    private LinkedList<Level> levels;
 
 
     public ShadowFlap() {
-        super(1024, 768, "Shadow Flap");
-        score = INITIAL_SCORE;
-        frameCountMessage = 0;
-        isGameRunning = false;
-        isWon = false;
-
-        // Add levels
-        levels = new LinkedList<>();
-        levels.addFirst(new Level0(INITIAL_SCORE));
-        levels.addFirst(new Level1(INITIAL_SCORE));
-
-        bird = levels.getLast().createBird();
-        background = levels.getLast().createBackground();
-        pipes = new LinkedList<>();
-        weapons = new LinkedList<>();
-        message = new Message(FONT, FONT_SIZE);
-        timeScale = new TimeScale();
+        super(Viewport.WIDTH, Viewport.HEIGHT, "Shadow Flap");
+        session = new GameSession();
+        assets = new AssetManager();
+        loadedLevel = session.getLevel();
+        assets.load(loadedLevel);
+        if (session.getNextLevel() != null) {
+            assets.preload(session.getNextLevel());
+        }
+        renderQueue = new RenderQueue();
+        showDrawStats = false;
+        message = new Message(FONT, FONT_SIZE, renderQueue);
+        timestep = new FixedTimestep(TICK_RATE, MAX_TICKS_PER_FRAME);
+        keyboard = new KeyboardInput();
+        recording = null;
+        autopilot = null;
+        population = null;
     }
 
     /**
-     * The entry point for the program.
+     * The entry point for the program. Passing "--record" followed by a path records the session's controls
+     * to that file when the game exits, to be played back with Replay. Passing "--autopilot" lets the
+     * Autopilot play, while keys such as speed up still work. Passing "--population" followed by a number
+     * shows that many birds flying through Level 1 together instead, each aiming differently. Passing
+     * "--draw-stats" shows the draws and texture switches of the previous frame, and the memory taken by
+     * referenced textures.
      * @return void
      */
     public static void main(String[] args) {
         ShadowFlap game = new ShadowFlap();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--record") && i + 1 < args.length) {
+                game.record(args[++i]);
+            } else if (args[i].equals("--autopilot")) {
+                game.autopilot = new Autopilot(game.AUTOPILOT_BUDGET_NANOS);
+            } else if (args[i].equals("--population") && i + 1 < args.length) {
+                game.showPopulation(Integer.parseInt(args[++i]));
+            } else if (args[i].equals("--draw-stats")) {
+                game.showDrawStats = true;
+            }
+        }
         game.run();
     }
 
+    private void showPopulation(int size) {
+        Level level = new Level1(0);
+        assets.load(level);
+        population = new Population(level, size);
+        populationAims = Population.spreadAims(size);
+        populationControls = new int[size];
+    }
+
+    private void record(String path) {
+        recording = new InputRecording(session.getSeed());
+
+        // Saved however the game exits, reporting rather than exiting on failure as the JVM is already exiting
+        InputRecording finished = recording;
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                finished.write(path);
+            } catch (IOException e) {
+                System.err.println("Error - unable to write recording: " + path);
+            }
+        }));
+    }
+
 
     /**
-     * Performs a state update.
+     * Performs as many fixed ticks of state updates as are due, then draws the resulting state.
      * allows the game to exit when the escape key is pressed.
      * @param input Input object from which key commands are detected.
      * @return void
@@ -83,57 +150,122 @@ public class ShadowFlap extends AbstractGame {
     @Override
     public void update(Input input) {
         checkExit(input);
-        background.draw();
+
+        keyboard.poll(input);
+        int ticks = timestep.advance(System.nanoTime());
+        if (population != null) {
+            updatePopulation(ticks);
+        } else {
+            updateSession(ticks);
+        }
+        if (showDrawStats) {
+            message.drawString(getDrawStatsText(), DRAW_STATS_POINT);
+        }
+        renderQueue.flush();
+        assets.uploadReady();
+    }
+
+    // Statistics of the last frame, rebuilt only when they differ from those shown
+    private String getDrawStatsText() {
+        int drawCalls = renderQueue.getDrawCalls();
+        int textureSwitches = renderQueue.getTextureSwitches();
+        int unsortedTextureSwitches = renderQueue.getUnsortedTextureSwitches();
+        long textureKilobytes = TextureCache.getReferencedBytes() / BYTES_PER_KILOBYTE;
+        if (drawStatsText == null || drawCalls != shownDrawCalls || textureSwitches != shownTextureSwitches ||
+                unsortedTextureSwitches != shownUnsortedTextureSwitches ||
+                textureKilobytes != shownTextureKilobytes) {
+            shownDrawCalls = drawCalls;
+            shownTextureSwitches = textureSwitches;
+            shownUnsortedTextureSwitches = unsortedTextureSwitches;
+            shownTextureKilobytes = textureKilobytes;
+            drawStatsText = DRAW_STATS_MESSAGE + " " + drawCalls + " " + textureSwitches + "/" +
+                    unsortedTextureSwitches + " " + TEXTURES_MESSAGE + " " + textureKilobytes + "KB";
+        }
+        return drawStatsText;
+    }
+
+    private void updateSession(int ticks) {
+        if (autopilot != null) {
+            autopilot.setBudgetNanos(AUTOPILOT_BUDGET_NANOS / Math.max(ticks, 1));
+        }
+        for (int i = 0; i < ticks; i++) {
+            int controls = keyboard.nextControls(session);
+            if (autopilot != null) {
+                controls |= autopilot.nextControls(session);
+            }
+            session.update(controls);
+            if (recording != null) {
+                recording.add(controls);
+            }
+        }
+        changeLevelAssets();
+        render(timestep.getAlpha());
+    }
+
+    // Once a new level starts, its images are finished, the previous level's let go and the level after preloaded
+    private void changeLevelAssets() {
+        if (session.getLevel() == loadedLevel) {
+            return;
+        }
+        assets.finishPreload();
+        assets.unload(loadedLevel);
+        loadedLevel = session.getLevel();
+        if (session.getNextLevel() != null) {
+            assets.preload(session.getNextLevel());
+        }
+    }
+
+    private void updatePopulation(int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            population.aim(populationAims, populationControls);
+            population.update(populationControls);
+        }
+        population.render(renderQueue, timestep.getAlpha());
+        message.drawString(flyingText.getText(population.getFlying()), FLYING_POINT);
+    }
+
+    private void render(double alpha) {
+        session.getBackground().draw(renderQueue);
 
         // Text-centre test
         // Drawing.drawLine(new Point(0, CENTRE.y), new Point(Window.getWidth(), CENTRE.y), 1, Colour.BLACK);
 
         // Pre game message
-        if (!isGameRunning) {
-            checkStart(input);
+        if (!session.getIsGameRunning()) {
+            message.drawStringCentred(START_MESSAGE);
+
+            // Interval message
+            session.getLevel().levelIntervalMessage(message);
         }
 
         // Game running
-        if (isGameRunning) {
-            if (!levels.getLast().getIsGameOver() && levels.size() > 0) {
-                // Level up
-                if (levels.getLast().getIsLevelCompleted()) {
-                    levelUp();
-                }
-                // Continue through level
-                else {
-                    levels.getLast().update(input, pipes, bird, weapons, background, timeScale, message);
-                }
-                // Update score
-                score = levels.getLast().getScore();
-            } else {
-                determineOutcome();
+        else if (!session.getIsGameOver()) {
+            // Level up
+            if (session.getLevel().getIsLevelCompleted()) {
+                message.drawStringCentred(LEVEL_UP_MESSAGE);
+            }
+            // Continue through level
+            else {
+                session.getLevel().render(session.getPipes(), session.getBird(), session.getWeapons(), message,
+                        renderQueue, alpha);
             }
+        } else {
+            determineOutcome();
         }
     }
 
     private void determineOutcome() {
         // Determine outcome
-        if (isWon) {
+        if (session.getIsWon()) {
             // Won
             message.drawStringCentred(WIN_MESSAGE);
         } else {
             // Lost
             message.drawStringCentred(GAME_LOST_MESSAGE);
             // Display final score
-            message.drawStringCentred(FINAL_SCORE_MESSAGE + " " + score,
-                    NO_PADDING, FINAL_SCORE_TOP_PADDING);
-        }
-    }
-
-    private void checkStart(Input input) {
-        if (input.wasPressed(Keys.SPACE)) {
-            isGameRunning = !isGameRunning;
+            message.drawStringCentred(finalScoreText.getText(session.getScore()), NO_PADDING,
+                    FINAL_SCORE_TOP_PADDING);
         }
-        message.drawStringCentred(START_MESSAGE);
-
-        // Interval message
-        levels.getLast().levelIntervalMessage(message);
     }
 
     private void checkExit(Input input) {
@@ -141,28 +273,4 @@ public class ShadowFlap extends AbstractGame {
             System.exit(SUCCESS);
         }
     }
-
-    private void levelUp() {
-        // Determine if game over
-        if (frameCountMessage == 0) {
-            if (levels.size() == LAST_LEVEL) {
-                isWon = !isWon;
-                levels.getLast().gameOver();
-                return;
-            }
-        }
-        frameCountMessage++;
-
-        // Start new level
-        if (frameCountMessage >= PAUSE_MESSAGE_FRAMES) {
-            frameCountMessage = 0;
-            levels.removeLast();
-            bird = levels.getLast().createBird();
-            pipes = new LinkedList<>();
-            timeScale.reset();
-            background = levels.getLast().createBackground();
-            isGameRunning = !isGameRunning;
-        }
-        message.drawStringCentred(LEVEL_UP_MESSAGE);
-    }
 }
@@ -0,0 +1,157 @@
+import java.util.Arrays;
+
+/**
+ * Represents the placement of new objects along the right edge of the screen. The vertical bands taken up
+ * by pipes and weapons in the column a new object will spawn into are gathered, sorted and merged, and the
+ * free space left between them is laid end to end, so a single random draw is mapped straight onto a free
+ * position with a binary search. Placement therefore always finishes, and never overlaps anything in the
+ * column. Every array is kept between placements, so placing allocates nothing once warmed up.
+ */
+public class SpawnPlacer {
+    private static final int INITIAL_CAPACITY = 8;
+
+    // Column searched for occupied bands
+    private final Hitbox column;
+
+    // Occupied bands of top positions, unsorted until placed
+    private double[] occupiedStarts;
+    private double[] occupiedEnds;
+    private int occupiedCount;
+
+    // Free bands, with the free length before each one
+    private double[] freeStarts;
+    private double[] freeOffsets;
+    private int freeCount;
+    private double freeLength;
+
+    /**
+     * Instantiates a SpawnPlacer with no occupied bands.
+     */
+    public SpawnPlacer() {
+        this.column = new Hitbox(0, 0, 0, Viewport.HEIGHT);
+        this.occupiedStarts = new double[INITIAL_CAPACITY];
+        this.occupiedEnds = new double[INITIAL_CAPACITY];
+        this.freeStarts = new double[INITIAL_CAPACITY + 1];
+        this.freeOffsets = new double[INITIAL_CAPACITY + 1];
+        this.occupiedCount = 0;
+        this.freeCount = 0;
+        this.freeLength = 0;
+    }
+
+    /**
+     * Takes in box, the indexed collisions, the range of tops allowed and a random draw, and finds a top for
+     * box, at its current x, at which it overlaps no indexed pipe or weapon. The draw is spread evenly over
+     * the free space, as rejection sampling would be, without the retries.
+     * @param box Hitbox object to place, whose left and size are used.
+     * @param collisions CollisionIndex object, holding this frame's pipes and weapons.
+     * @param minTop double, the smallest top allowed.
+     * @param maxTop double, the largest top allowed.
+     * @param draw double, a random number from 0 up to 1.
+     * @return double The top to place box at, or NaN if there is no free space.
+     */
+    public double place(Hitbox box, CollisionIndex collisions, double minTop, double maxTop, double draw) {
+        column.resize(box.width(), Viewport.HEIGHT);
+        column.moveTo(box.left(), 0);
+        occupiedCount = 0;
+
+        // Pipes, with the flames of steel pipes whether lit or not
+        int pipes = collisions.queryPipes(column);
+        for (int i = 0; i < pipes; i++) {
+            Pipes pipe = collisions.getPipeResult(i);
+            occupy(pipe.getTopPipe(), box.height());
+            occupy(pipe.getBottomPipe(), box.height());
+            if (pipe instanceof SteelPipes) {
+                occupy(((SteelPipes) pipe).getTopFlame(), box.height());
+                occupy(((SteelPipes) pipe).getBottomFlame(), box.height());
+            }
+        }
+
+        // Weapons still in play
+        int weapons = collisions.queryWeapons(column);
+        for (int i = 0; i < weapons; i++) {
+            Weapon weapon = collisions.getWeaponResult(i);
+            if (weapon.getExists()) {
+                occupy(weapon.getWeapon(), box.height());
+            }
+        }
+
+        findFree(minTop, maxTop);
+        if (freeLength <= 0) {
+            return Double.NaN;
+        }
+        return sample(draw * freeLength);
+    }
+
+    /**
+     * Gets the total free space found by the last placement.
+     * @return double The length of the free tops, in pixels.
+     */
+    public double getFreeLength() {
+        return freeLength;
+    }
+
+    // Tops from height above the object down to its bottom would overlap it
+    private void occupy(Hitbox other, double height) {
+        if (other.sweptRight() < column.left() || other.sweptLeft() > column.right()) {
+            return;
+        }
+        if (occupiedCount == occupiedStarts.length) {
+            occupiedStarts = Arrays.copyOf(occupiedStarts, occupiedCount * 2);
+            occupiedEnds = Arrays.copyOf(occupiedEnds, occupiedCount * 2);
+            freeStarts = Arrays.copyOf(freeStarts, occupiedCount * 2 + 1);
+            freeOffsets = Arrays.copyOf(freeOffsets, occupiedCount * 2 + 1);
+        }
+        occupiedStarts[occupiedCount] = other.top() - height;
+        occupiedEnds[occupiedCount] = other.bottom();
+        occupiedCount++;
+    }
+
+    // Sorts the occupied bands by start, then walks them to collect the gaps within the range
+    private void findFree(double minTop, double maxTop) {
+        for (int i = 1; i < occupiedCount; i++) {
+            double start = occupiedStarts[i], end = occupiedEnds[i];
+            int j = i - 1;
+            while (j >= 0 && occupiedStarts[j] > start) {
+                occupiedStarts[j + 1] = occupiedStarts[j];
+                occupiedEnds[j + 1] = occupiedEnds[j];
+                j--;
+            }
+            occupiedStarts[j + 1] = start;
+            occupiedEnds[j + 1] = end;
+        }
+
+        freeCount = 0;
+        freeLength = 0;
+        double cursor = minTop;
+        for (int i = 0; i < occupiedCount && cursor < maxTop; i++) {
+            if (occupiedStarts[i] > cursor) {
+                addFree(cursor, Math.min(occupiedStarts[i], maxTop));
+            }
+            cursor = Math.max(cursor, occupiedEnds[i]);
+        }
+        if (cursor < maxTop) {
+            addFree(cursor, maxTop);
+        }
+    }
+
+    private void addFree(double start, double end) {
+        freeStarts[freeCount] = start;
+        freeOffsets[freeCount] = freeLength;
+        freeCount++;
+        freeLength += end - start;
+    }
+
+    // The last free band starting at or before offset, found by binary search
+    private double sample(double offset) {
+        int low = 0, high = freeCount - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (freeOffsets[mid] <= offset) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return freeStarts[low] + (offset - freeOffsets[low]);
+    }
+}
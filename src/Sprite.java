@@ -0,0 +1,190 @@
+import bagel.DrawOptions;
+import bagel.Image;
+import java.io.DataInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Represents an image file, exposing its dimensions without requiring a window, and only loading the
+ * underlying bagel Image once the sprite is acquired. Images come from the shared TextureCache, taken when the
+ * first user acquires the sprite and given back once every user has released it, so a sprite must be acquired
+ * before it is drawn.
+ */
+public class Sprite {
+    // PNG header layout
+    private static final long PNG_SIGNATURE = 0x89504E470D0A1A0AL;
+    private static final int IHDR_CHUNK_HEADER_BYTES = 8;
+    private final int ERROR = -1;
+
+    // Ids start from 1, leaving 0 free for text within a RenderQueue
+    private static final AtomicInteger NEXT_ID = new AtomicInteger(1);
+
+    private final int id;
+    private final String path;
+    private final double width;
+    private final double height;
+    private Image image;
+    private int users;
+    private CollisionMask mask;
+
+    /**
+     * Takes in path, reads the image dimensions from the PNG header, and instantiates a Sprite.
+     * @param path String, the path of the PNG file.
+     */
+    public Sprite(String path) {
+        this.id = NEXT_ID.getAndIncrement();
+        this.path = path;
+        this.image = null;
+        this.users = 0;
+        this.mask = null;
+
+        // Dimensions are stored in the IHDR chunk, directly after the signature
+        int imageWidth = 0, imageHeight = 0;
+        try (DataInputStream stream = new DataInputStream(new FileInputStream(path))) {
+            if (stream.readLong() != PNG_SIGNATURE) {
+                System.out.println("Error - not a PNG image: " + path);
+                System.exit(ERROR);
+            }
+            stream.skipBytes(IHDR_CHUNK_HEADER_BYTES);
+            imageWidth = stream.readInt();
+            imageHeight = stream.readInt();
+        } catch (IOException e) {
+            System.out.println("Error - unable to read image: " + path);
+            System.exit(ERROR);
+        }
+        this.width = imageWidth;
+        this.height = imageHeight;
+    }
+
+    /**
+     * Gets the image, held while the sprite has a user.
+     * @return Image The bagel Image represented by the sprite.
+     */
+    public Image getImage() {
+        if (image == null) {
+            System.out.println("Error - image used before being acquired: " + path);
+            System.exit(ERROR);
+        }
+        return image;
+    }
+
+    /**
+     * Adds a user of the sprite, such as a level, taking its image from the TextureCache if it is not yet
+     * held, returns nothing. Must be called from the thread drawing the window.
+     * @return void
+     */
+    public void acquire() {
+        if (users == 0) {
+            image = TextureCache.acquire(path);
+        }
+        users++;
+    }
+
+    /**
+     * Removes a user of the sprite, giving its image back to the TextureCache once no users are left,
+     * returns nothing. Must be called from the thread drawing the window.
+     * @return void
+     */
+    public void release() {
+        if (users == 0) {
+            return;
+        }
+        users--;
+        if (users == 0) {
+            TextureCache.release(path);
+            image = null;
+        }
+    }
+
+    /**
+     * Reads the whole image file, so that creating the image later finds it in the file cache, returns
+     * nothing. Unlike getImage, it needs no window, so can be called from any thread.
+     * @return void
+     */
+    public void preload() {
+        try {
+            Files.readAllBytes(Paths.get(path));
+        } catch (IOException e) {
+            System.out.println("Error - unable to read image: " + path);
+            System.exit(ERROR);
+        }
+    }
+
+    /**
+     * Gets the collision mask of the image, reading it on first use. Unlike the image, no window is needed,
+     * and it may be read from any thread.
+     * @return CollisionMask The mask of the image's solid pixels.
+     */
+    public synchronized CollisionMask getMask() {
+        if (mask == null) {
+            mask = CollisionMask.load(path);
+        }
+        return mask;
+    }
+
+    /**
+     * Draws the sprite centred at the given position, returns nothing.
+     * @param x double, the x value of the centre.
+     * @param y double, the y value of the centre.
+     * @return void
+     */
+    public void draw(double x, double y) {
+        getImage().draw(x, y);
+    }
+
+    /**
+     * Draws the sprite with its top left at the given position, returns nothing.
+     * @param x double, the x value of the top left.
+     * @param y double, the y value of the top left.
+     * @return void
+     */
+    public void drawFromTopLeft(double x, double y) {
+        getImage().drawFromTopLeft(x, y);
+    }
+
+    /**
+     * Draws the sprite with its top left at the given position and the given options, returns nothing.
+     * @param x double, the x value of the top left.
+     * @param y double, the y value of the top left.
+     * @param options DrawOptions object, the options to draw the sprite with.
+     * @return void
+     */
+    public void drawFromTopLeft(double x, double y, DrawOptions options) {
+        getImage().drawFromTopLeft(x, y, options);
+    }
+
+    /**
+     * Gets the width of the image.
+     * @return double The width of the image in pixels.
+     */
+    public double getWidth() {
+        return width;
+    }
+
+    /**
+     * Gets the height of the image.
+     * @return double The height of the image in pixels.
+     */
+    public double getHeight() {
+        return height;
+    }
+
+    /**
+     * Gets the id of the sprite, unique to each Sprite created, used to group draws of the same image.
+     * @return int The id of the sprite.
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Gets the path of the image.
+     * @return String The path which the image is loaded from.
+     */
+    public String getPath() {
+        return path;
+    }
+}
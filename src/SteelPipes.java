@@ -1,7 +1,4 @@
 import bagel.DrawOptions;
-import bagel.Image;
-import bagel.util.Point;
-import bagel.util.Rectangle;
 
 /*
 // For illustrating and debugging the flame Rectangles - see below
@@ -14,26 +11,32 @@ import bagel.util.Colour;
  */
 public class SteelPipes extends Pipes {
     // Image
-    private static final Image PIPE = new Image("res/level-1/steelPipe.png");
-    private static final Image FLAME = new Image("res/level-1/flame.png");
+    private static final Sprite PIPE = new Sprite("res/level-1/steelPipe.png");
+    private static final Sprite FLAME = new Sprite("res/level-1/flame.png");
+    // The bottom flame is drawn turned half a circle
+    private static final CollisionMask BOTTOM_FLAME_MASK = FLAME.getMask().rotated();
 
     // Dimensions
     private final int ROTATION_DEGREES = 180;
 
-    private final int BOMB_TEST = 0;
-
     // Drawing and collision use
     private DrawOptions topPipeOptions = new DrawOptions();
 
     // Flames
     private final int FLAME_THRESHOLD_FRAMES = 20;
     private final int FLAME_PAUSE = 3;
-    private Point topFlameTopLeft;
-    private Point bottomFlameTopLeft;
-    private Rectangle topFlame;
-    private Rectangle bottomFlame;
+    private Hitbox topFlame;
+    private Hitbox bottomFlame;
     private int frameCount;
 
+    /**
+     * Gets the images used by steel pipes, for loading ahead of time.
+     * @return Sprite[] The images.
+     */
+    public static Sprite[] getSprites() {
+        return new Sprite[]{PIPE, FLAME};
+    }
+
     /**
      * Takes in gapStartY, and instantiates a steel pipe.
      * @param gapStartY double, Y value of the gap's starting position.
@@ -42,12 +45,8 @@ public class SteelPipes extends Pipes {
         super(gapStartY, PIPE.getWidth());
         this.frameCount = 0;
 
-        this.topFlameTopLeft = new Point(getPipeX(), getTopPipeY() + PIPE.getHeight());
-        this.bottomFlameTopLeft = new Point(getPipeX(), getBottomPipeY() - FLAME.getHeight());
-
-        this.topFlame = new Rectangle(topFlameTopLeft.x, topFlameTopLeft.y, FLAME.getWidth(), FLAME.getHeight());
-        this.bottomFlame = new Rectangle(bottomFlameTopLeft.x, bottomFlameTopLeft.y,
-                FLAME.getWidth(), FLAME.getHeight());
+        this.topFlame = new Hitbox(getPipeX(), getTopPipeY() + PIPE.getHeight(), FLAME.getMask());
+        this.bottomFlame = new Hitbox(getPipeX(), getBottomPipeY() - FLAME.getHeight(), BOTTOM_FLAME_MASK);
     }
 
     /**
@@ -59,28 +58,45 @@ public class SteelPipes extends Pipes {
         super(gapStartY, PIPE.getWidth(), scale);
         this.frameCount = 0;
 
-        this.topFlameTopLeft = new Point(getPipeX(), getTopPipeY() + PIPE.getHeight());
-        this.bottomFlameTopLeft = new Point(getPipeX(), getBottomPipeY() - FLAME.getHeight());
+        this.topFlame = new Hitbox(getPipeX(), getTopPipeY() + PIPE.getHeight(), FLAME.getMask());
+        this.bottomFlame = new Hitbox(getPipeX(), getBottomPipeY() - FLAME.getHeight(), BOTTOM_FLAME_MASK);
+    }
 
-        this.topFlame = new Rectangle(topFlameTopLeft.x, topFlameTopLeft.y, FLAME.getWidth(), FLAME.getHeight());
-        this.bottomFlame = new Rectangle(bottomFlameTopLeft.x, bottomFlameTopLeft.y,
-                FLAME.getWidth(), FLAME.getHeight());
+    /**
+     * Takes in gapStartY, scale, and resets the steel pipe and its flames to a newly spawned state so that
+     * it can be reused, returns nothing.
+     * @param gapStartY double, Y value of the gap's starting position.
+     * @param scale The timeScale object affecting the speed of objects.
+     * @return void
+     */
+    @Override
+    public void reset(double gapStartY, TimeScale scale) {
+        super.reset(gapStartY, scale);
+        this.frameCount = 0;
+
+        topFlame.moveTo(getPipeX(), getTopPipeY() + PIPE.getHeight());
+        bottomFlame.moveTo(getPipeX(), getBottomPipeY() - FLAME.getHeight());
     }
 
     /**
-     * Draws both the pipes to the window.
+     * Takes in queue and alpha, and draws both the pipes to the window between their previous and current positions.
      * Returns nothing.
+     * @param queue RenderQueue object, drawn to the window once the frame is complete.
+     * @param alpha double, from 0 for the previous position to 1 for the current position.
      * @return void
      */
     @Override
-    public void draw() {
-
-        PIPE.drawFromTopLeft(getPipeX(), getBottomPipeY(),
-                topPipeOptions.setRotation(Math.toRadians(ROTATION_DEGREES)));
-        PIPE.drawFromTopLeft(getPipeX(), getTopPipeY());
+    public void draw(RenderQueue queue, double alpha) {
+        double pipeX = getDrawX(alpha);
+        if (Viewport.isVisible(getBottomPipe())) {
+            queue.submitFromTopLeft(RenderQueue.PIPES, PIPE, pipeX, getBottomPipeY(),
+                    topPipeOptions.setRotation(Math.toRadians(ROTATION_DEGREES)));
+        }
+        if (Viewport.isVisible(getTopPipe())) {
+            queue.submitFromTopLeft(RenderQueue.PIPES, PIPE, pipeX, getTopPipeY());
+        }
 
-        if (frameCount > FLAME_THRESHOLD_FRAMES - FLAME_PAUSE &&
-                frameCount <= FLAME_THRESHOLD_FRAMES) {
+        if (getIsFlaming()) {
             /*
 
             // Uncomment to check that the flame rectangles are showing up correctly.
@@ -95,20 +111,24 @@ public class SteelPipes extends Pipes {
 
              */
 
-            FLAME.drawFromTopLeft(getPipeX(), getBottomPipeY() - FLAME.getHeight(),
-                    topPipeOptions.setRotation(Math.toRadians(ROTATION_DEGREES)));
-            FLAME.drawFromTopLeft(getPipeX(), getTopPipeY() + PIPE.getHeight());
+            if (Viewport.isVisible(bottomFlame)) {
+                queue.submitFromTopLeft(RenderQueue.FLAMES, FLAME, pipeX, getBottomPipeY() - FLAME.getHeight(),
+                        topPipeOptions.setRotation(Math.toRadians(ROTATION_DEGREES)));
+            }
+            if (Viewport.isVisible(topFlame)) {
+                queue.submitFromTopLeft(RenderQueue.FLAMES, FLAME, pipeX, getTopPipeY() + PIPE.getHeight());
+            }
         }
     }
 
     /**
      * Checks if a collision with pi[es has occurred with a rectangle.
      * Returns true if intersection exists and false otherwise.
-     * @param rect The rectangle object to determine whether a collision exists.
+     * @param rect The hitbox object to determine whether a collision exists.
      * @return boolean Returns true if a collision occurred, and false otherwise.
      */
     @Override
-    public boolean hasCollided(Rectangle rect) {
+    public boolean hasCollided(Hitbox rect) {
         if (super.hasCollided(rect) || hasCollidedFlames(rect)) {
             return true;
         }
@@ -116,20 +136,42 @@ public class SteelPipes extends Pipes {
     }
 
     /**
-     * Checks if a collision with flames has occurred with a rectangle.
+     * Checks if a collision with flames has occurred with a hitbox at any point during the frame's motion.
      * Returns true if intersection exists and false otherwise.
-     * @param rect The rectangle object, to determine whether a collision exists.
+     * @param rect The hitbox object, to determine whether a collision exists.
      * @return boolean Returns true if a collision occurred, and false otherwise.
      */
-    private boolean hasCollidedFlames(Rectangle rect) {
-        if (frameCount > FLAME_THRESHOLD_FRAMES - FLAME_PAUSE &&
-                frameCount <= FLAME_THRESHOLD_FRAMES &&
-                (rect.intersects(topFlame) || rect.intersects(bottomFlame))) {
+    private boolean hasCollidedFlames(Hitbox rect) {
+        if (getIsFlaming() && (rect.sweptIntersects(topFlame) || rect.sweptIntersects(bottomFlame))) {
             return true;
         }
         return false;
     }
 
+    /**
+     * Determines whether the flames are out during the current frame.
+     * @return boolean Returns true if the flames are out, and false otherwise.
+     */
+    public boolean getIsFlaming() {
+        return frameCount > FLAME_THRESHOLD_FRAMES - FLAME_PAUSE && frameCount <= FLAME_THRESHOLD_FRAMES;
+    }
+
+    /**
+     * Gets the top flame Hitbox.
+     * @return Hitbox representing the flame below the top pipe.
+     */
+    public Hitbox getTopFlame() {
+        return topFlame;
+    }
+
+    /**
+     * Gets the bottom flame Hitbox.
+     * @return Hitbox representing the flame above the bottom pipe.
+     */
+    public Hitbox getBottomFlame() {
+        return bottomFlame;
+    }
+
     /**
      * Moves both pipes based on a given step value.
      * Returns nothing.
@@ -141,8 +183,8 @@ public class SteelPipes extends Pipes {
         super.move();
 
         // Move flames
-        topFlame.moveTo(new Point(getPipeX(), getTopPipeY() + PIPE.getHeight()));
-        bottomFlame.moveTo(new Point(getPipeX(), getBottomPipeY() - FLAME.getHeight()));
+        topFlame.sweepTo(getPipeX(), getTopPipeY() + PIPE.getHeight());
+        bottomFlame.sweepTo(getPipeX(), getBottomPipeY() - FLAME.getHeight());
         if (frameCount == FLAME_THRESHOLD_FRAMES) {
             frameCount = 0;
         }
@@ -150,17 +192,39 @@ public class SteelPipes extends Pipes {
     }
 
     /**
-     * Takes in weapon and takes damage.
-     * @param damage The damage object, in this case weapon, which inflicts damage on the pipes.
-     * @return boolean Returns true if the pipe is alive, and false otherwise.
+     * Gets the pipes' type.
+     * @return int The EntityType id of the pipes.
      */
     @Override
-    public boolean takeDamage(Weapon damage) {
-        Weapon test = new Bomb(BOMB_TEST, BOMB_TEST);
-        if (damage.getClass() == test.getClass()) {
-            perish();
-            return false;
-        }
-        return true;
+    public int getTypeId() {
+        return EntityType.STEEL_PIPES;
+    }
+
+    /**
+     * Takes in snapshot, and writes the pipes' state, including the flames, to it, returns nothing.
+     * @param snapshot WorldSnapshot object to write to.
+     * @return void
+     */
+    @Override
+    public void save(WorldSnapshot snapshot) {
+        super.save(snapshot);
+        snapshot.putInt(frameCount);
+        topFlame.save(snapshot);
+        bottomFlame.save(snapshot);
+    }
+
+    /**
+     * Takes in snapshot and scale, and reads the pipes' state, including the flames, back from it,
+     * returns nothing.
+     * @param snapshot WorldSnapshot object to read from.
+     * @param scale The timeScale object affecting the speed of objects.
+     * @return void
+     */
+    @Override
+    public void restore(WorldSnapshot snapshot, TimeScale scale) {
+        super.restore(snapshot, scale);
+        frameCount = snapshot.getInt();
+        topFlame.restore(snapshot);
+        bottomFlame.restore(snapshot);
     }
 }
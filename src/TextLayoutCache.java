@@ -0,0 +1,76 @@
+import bagel.Font;
+import bagel.Window;
+import bagel.util.Point;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Represents the positions of centred text drawn with one font, so that each string is only measured the first
+ * time it is drawn. Only the most recently drawn strings are kept, so strings which change every frame, such
+ * as scores, cannot grow the cache without bound.
+ */
+public class TextLayoutCache {
+    private static final int MAX_ENTRIES = 64;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final Font font;
+    private final int fontSize;
+    private final LinkedHashMap<String, Point> centres;
+
+    /**
+     * Takes in font and fontSize, and instantiates an empty TextLayoutCache.
+     * @param font Font object, which the strings are drawn with.
+     * @param fontSize integer, the size of the font.
+     */
+    public TextLayoutCache(Font font, int fontSize) {
+        this.font = font;
+        this.fontSize = fontSize;
+
+        // Access ordered, so the least recently drawn string is removed first
+        this.centres = new LinkedHashMap<String, Point>(MAX_ENTRIES, LOAD_FACTOR, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Point> eldest) {
+                return size() > MAX_ENTRIES;
+            }
+        };
+    }
+
+    /**
+     * Takes in message, and gets the position at which it is drawn centred within the window, measuring it
+     * only if it is not cached.
+     * @param message String, the text to position.
+     * @return Point The position of the left of the text's baseline.
+     */
+    public Point getCentre(String message) {
+        Point centre = centres.get(message);
+        if (centre == null) {
+            centre = measureCentre(message);
+            centres.put(message, centre);
+        }
+        return centre;
+    }
+
+    private Point measureCentre(String message) {
+        double stringWidth, leftPadding, topPadding;
+        stringWidth = font.getWidth(message);
+
+        // Centre horizontally
+        leftPadding = ((double) Window.getWidth() - stringWidth) / 2;
+
+        // Mathematically centre vertically
+        topPadding = ((double)Window.getHeight() + (double)fontSize) / 2;
+
+        // Uncomment below to visually centre vertically
+        // topPadding = ((double)Window.getHeight() + (double)fontSize / 2) / 2;
+
+        return new Point(leftPadding, topPadding);
+    }
+
+    /**
+     * Gets the number of strings whose positions are cached.
+     * @return int The number of cached strings.
+     */
+    public int size() {
+        return centres.size();
+    }
+}
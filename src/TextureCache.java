@@ -0,0 +1,82 @@
+import bagel.Image;
+import java.util.HashMap;
+
+/**
+ * Represents the images in use, shared by path between every Sprite, so that sprites of the same file hold one
+ * image between them. Each path is counted once for every sprite holding it, and the cache stops referencing
+ * its image once the last lets go, such as when the level using it is unloaded. Bagel has no way to free an
+ * image's texture, so letting go only leaves the image unreachable, and the memory tracked is that of the
+ * referenced images, assuming four bytes per pixel as uploaded, rather than the texture memory actually held.
+ */
+public final class TextureCache {
+    private static final int BYTES_PER_PIXEL = 4;
+    private static final HashMap<String, Entry> ENTRIES = new HashMap<>();
+    private static long referencedBytes = 0;
+
+    private TextureCache() {
+    }
+
+    // A referenced image and the number of sprites holding it
+    private static class Entry {
+        private final Image image;
+        private final long bytes;
+        private int references;
+
+        private Entry(Image image) {
+            this.image = image;
+            this.bytes = (long) image.getWidth() * (long) image.getHeight() * BYTES_PER_PIXEL;
+            this.references = 0;
+        }
+    }
+
+    /**
+     * Takes in path, and gets its image, loading it if no sprite holds it yet. Each call must be matched by a
+     * call to release once the image is no longer needed.
+     * @param path String, the path of the PNG file.
+     * @return Image The image of the file.
+     */
+    public static synchronized Image acquire(String path) {
+        Entry entry = ENTRIES.get(path);
+        if (entry == null) {
+            entry = new Entry(new Image(path));
+            ENTRIES.put(path, entry);
+            referencedBytes += entry.bytes;
+        }
+        entry.references++;
+        return entry.image;
+    }
+
+    /**
+     * Takes in path, and lets go of one hold on its image, no longer referencing the image if nothing else
+     * holds it, returns nothing.
+     * @param path String, the path of the PNG file.
+     * @return void
+     */
+    public static synchronized void release(String path) {
+        Entry entry = ENTRIES.get(path);
+        if (entry == null) {
+            return;
+        }
+        entry.references--;
+        if (entry.references <= 0) {
+            ENTRIES.remove(path);
+            referencedBytes -= entry.bytes;
+        }
+    }
+
+    /**
+     * Gets the memory taken by the referenced images, which excludes textures let go of but never freed.
+     * @return long The referenced texture memory, in bytes.
+     */
+    public static synchronized long getReferencedBytes() {
+        return referencedBytes;
+    }
+
+    /**
+     * Gets the number of referenced images.
+     * @return int The number of distinct image files held.
+     */
+    public static synchronized int size() {
+        return ENTRIES.size();
+    }
+}
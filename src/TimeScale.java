@@ -1,33 +1,34 @@
-import bagel.Input;
-import bagel.Keys;
-
 /**
  * Represents a timescale, allowing it to increase or decrease the speed of time within the game.
  */
 public class TimeScale implements TimeScalable {
+    // Speed multiplier for each timescale from TIMESCALE_MIN to TIMESCALE_MAX, computed once
+    private static final double[] SPEED_MULTIPLIERS = calcSpeedMultipliers();
+
     private double timeScale;
+    private double speedMultiplier;
 
     /**
      * Instantiates a timeScale with its default value.
      */
     public TimeScale() {
-        this.timeScale = TimeScalable.TIMESCALE_MIN;
+        setTimeScale(TimeScalable.TIMESCALE_MIN);
     }
 
     /**
-     * Takes in input and determines whether the timescale has been increased or decreased, returns nothing.
-     * @param input The input object which allows detection of key commands.
+     * Takes in controls and determines whether the timescale has been increased or decreased, returns nothing.
+     * @param controls int, the controls pressed this frame.
      * @return void
      */
     @Override
-    public void timeScale(Input input) {
+    public void timeScale(int controls) {
         // Speed up
-        if (input.wasPressed(Keys.L) && timeScale < TimeScalable.TIMESCALE_MAX) {
-            timeScale++;
+        if (Controls.isPressed(controls, Controls.SPEED_UP) && timeScale < TimeScalable.TIMESCALE_MAX) {
+            setTimeScale(timeScale + 1);
         }
         // Slow down
-        else if (input.wasPressed(Keys.K) && timeScale > TimeScalable.TIMESCALE_MIN) {
-            timeScale--;
+        else if (Controls.isPressed(controls, Controls.SLOW_DOWN) && timeScale > TimeScalable.TIMESCALE_MIN) {
+            setTimeScale(timeScale - 1);
         }
     }
 
@@ -44,6 +45,47 @@ public class TimeScale implements TimeScalable {
      * @return void
      */
     public void reset() {
-        timeScale = TimeScalable.TIMESCALE_MIN;
+        setTimeScale(TimeScalable.TIMESCALE_MIN);
+    }
+
+    /**
+     * Takes in snapshot, and writes the timescale's state to it, returns nothing.
+     * @param snapshot WorldSnapshot object to write to.
+     * @return void
+     */
+    public void save(WorldSnapshot snapshot) {
+        snapshot.putDouble(timeScale);
+    }
+
+    /**
+     * Takes in snapshot, and reads the timescale's state back from it, returns nothing.
+     * @param snapshot WorldSnapshot object to read from.
+     * @return void
+     */
+    public void restore(WorldSnapshot snapshot) {
+        setTimeScale(snapshot.getDouble());
+    }
+
+    /**
+     * Gets the speed multiplier for the current timeScale, which only changes when the timeScale does, so
+     * every object moving within a frame uses the same value.
+     * @return double Returns the multiplier to be used for altering object's speeds.
+     */
+    public double getSpeedMultiplier() {
+        return speedMultiplier;
+    }
+
+    private void setTimeScale(double timeScale) {
+        this.timeScale = timeScale;
+        this.speedMultiplier = SPEED_MULTIPLIERS[(int) (timeScale - TimeScalable.TIMESCALE_MIN)];
+    }
+
+    private static double[] calcSpeedMultipliers() {
+        int count = (int) (TimeScalable.TIMESCALE_MAX - TimeScalable.TIMESCALE_MIN) + 1;
+        double[] multipliers = new double[count];
+        for (int i = 0; i < count; i++) {
+            multipliers[i] = Math.pow(TimeScalable.MULTIPLIER, TimeScalable.TIMESCALE_MIN + i - 1);
+        }
+        return multipliers;
     }
 }
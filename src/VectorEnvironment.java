@@ -0,0 +1,382 @@
+import java.nio.FloatBuffer;
+import java.util.concurrent.Phaser;
+
+/**
+ * Represents a batch of independent headless environments of a single level, stepped together, for training
+ * controllers against the real level rules. Each step takes one Controls bitmask per environment, and writes
+ * every environment's observation, reward and done flag into arrays which are allocated once and reused, also
+ * available as FloatBuffers. Each environment draws its episode seeds from its own generator, split from the
+ * batch seed, so batches of nearby seeds share no episodes. Environments which finish are reset with their next
+ * seed straight away, so the observation after a done flag is the first of the next episode. The batch is split
+ * into fixed slices, each stepped by its own worker thread in lockstep with the others.
+ * Running it directly measures the steps per second under random controls:
+ * <pre>java VectorEnvironment [level] [environments] [seconds]</pre>
+ */
+public class VectorEnvironment {
+    // Observation layout
+    private static final int BIRD_FEATURES = 5;
+    private static final int NEXT_PIPES = 3;
+    private static final int PIPE_FEATURES = 4;
+    private static final int NEXT_WEAPONS = 2;
+    private static final int WEAPON_FEATURES = 3;
+
+    /**
+     * Number of floats in each environment's observation: the bird's height, velocity, lives, whether it holds
+     * a weapon and the timescale, then for each of the next pipes its distance, gap top, gap bottom and
+     * whether its flames are out, then for each of the next weapons its distance, height and whether it is a
+     * bomb. Missing pipes and weapons are left as zero.
+     */
+    public static final int OBSERVATION_SIZE = BIRD_FEATURES + NEXT_PIPES * PIPE_FEATURES +
+            NEXT_WEAPONS * WEAPON_FEATURES;
+
+    // Rewards
+    private static final float POINT_REWARD = 1;
+    private static final float LIFE_REWARD = -1;
+    private static final float LOST_REWARD = -5;
+    private static final float COMPLETED_REWARD = 5;
+    private static final float DONE = 1;
+    private static final float NOT_DONE = 0;
+    private static final double VELOCITY_SCALE = 10;
+
+    // Benchmark
+    private static final double NANOS_PER_SECOND = 1e9;
+    private static final int RANDOM_FLAP_ONE_IN = 12;
+    private static final int SHOOT_ONE_IN = 40;
+    private static final int ERROR = -1;
+
+    private final int levelNumber;
+    private final int count;
+    private final int maxTicks;
+    private final Environment[] environments;
+    private final GameRandom batchRandom;
+    private final int[] actions;
+    private final float[] observations;
+    private final float[] rewards;
+    private final float[] dones;
+    private final FloatBuffer observationBuffer;
+    private final FloatBuffer rewardBuffer;
+    private final FloatBuffer doneBuffer;
+
+    // Workers
+    private final int slices;
+    private final Phaser phaser;
+    private volatile boolean isClosed;
+
+    /**
+     * Takes in levelNumber, count and maxTicks, and instantiates a VectorEnvironment using a worker for each
+     * available core. Environments are not playable until reset.
+     * @param levelNumber int, 0 or 1, the level every environment plays.
+     * @param count int, the number of environments.
+     * @param maxTicks int, the number of ticks after which an episode is cut short.
+     */
+    public VectorEnvironment(int levelNumber, int count, int maxTicks) {
+        this(levelNumber, count, maxTicks, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Takes in levelNumber, count, maxTicks and threads, and instantiates a VectorEnvironment. Environments
+     * are not playable until reset.
+     * @param levelNumber int, 0 or 1, the level every environment plays.
+     * @param count int, the number of environments.
+     * @param maxTicks int, the number of ticks after which an episode is cut short.
+     * @param threads int, the number of threads to step on, including the caller's.
+     */
+    public VectorEnvironment(int levelNumber, int count, int maxTicks, int threads) {
+        this.levelNumber = levelNumber;
+        this.count = count;
+        this.maxTicks = maxTicks;
+        this.environments = new Environment[count];
+        this.batchRandom = new GameRandom(0);
+        for (int i = 0; i < count; i++) {
+            environments[i] = new Environment(i);
+        }
+        this.actions = new int[count];
+        this.observations = new float[count * OBSERVATION_SIZE];
+        this.rewards = new float[count];
+        this.dones = new float[count];
+        this.observationBuffer = FloatBuffer.wrap(observations);
+        this.rewardBuffer = FloatBuffer.wrap(rewards);
+        this.doneBuffer = FloatBuffer.wrap(dones);
+
+        // The caller steps the first slice, each worker one of the rest
+        this.slices = Math.max(1, Math.min(threads, count));
+        this.phaser = new Phaser(slices);
+        this.isClosed = false;
+        for (int slice = 1; slice < slices; slice++) {
+            int worker = slice;
+            Thread thread = new Thread(() -> work(worker), "VectorEnvironment-" + worker);
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    /**
+     * Takes in seed, and starts a new episode in every environment, each with a generator split in turn from
+     * one seeded with seed, then writes their first observations, returns nothing.
+     * @param seed long, the seed of the batch.
+     * @return void
+     */
+    public void reset(long seed) {
+        batchRandom.reseed(seed);
+        for (int i = 0; i < count; i++) {
+            batchRandom.splitInto(environments[i].seeds);
+            environments[i].reset(environments[i].seeds.nextLong());
+            environments[i].observe();
+            rewards[i] = 0;
+            dones[i] = NOT_DONE;
+        }
+    }
+
+    /**
+     * Takes in controls, one Controls bitmask per environment, and advances every environment by a tick,
+     * writing the observations, rewards and done flags, returns nothing.
+     * @param controls int[], the controls of each environment.
+     * @return void
+     */
+    public void step(int[] controls) {
+        System.arraycopy(controls, 0, actions, 0, count);
+        phaser.arriveAndAwaitAdvance();
+        stepSlice(0);
+        phaser.arriveAndAwaitAdvance();
+    }
+
+    /**
+     * Stops the worker threads, after which the environments can no longer be stepped, returns nothing.
+     * @return void
+     */
+    public void close() {
+        isClosed = true;
+        phaser.arriveAndDeregister();
+    }
+
+    private void work(int slice) {
+        while (true) {
+            phaser.arriveAndAwaitAdvance();
+            if (isClosed) {
+                phaser.arriveAndDeregister();
+                return;
+            }
+            stepSlice(slice);
+            phaser.arriveAndAwaitAdvance();
+        }
+    }
+
+    private void stepSlice(int slice) {
+        int from = (int) ((long) count * slice / slices);
+        int to = (int) ((long) count * (slice + 1) / slices);
+        for (int i = from; i < to; i++) {
+            environments[i].step(actions[i]);
+        }
+    }
+
+    /**
+     * Gets the observations, OBSERVATION_SIZE floats for each environment in order.
+     * @return float[] The observations after the last reset or step.
+     */
+    public float[] getObservations() {
+        return observations;
+    }
+
+    /**
+     * Gets the rewards of the last step.
+     * @return float[] The reward of each environment.
+     */
+    public float[] getRewards() {
+        return rewards;
+    }
+
+    /**
+     * Gets the done flags of the last step, 1 where the episode ended and the environment was reset.
+     * @return float[] The done flag of each environment.
+     */
+    public float[] getDones() {
+        return dones;
+    }
+
+    /**
+     * Gets the observations as a FloatBuffer over the same floats as getObservations.
+     * @return FloatBuffer The observations after the last reset or step.
+     */
+    public FloatBuffer getObservationBuffer() {
+        return observationBuffer;
+    }
+
+    /**
+     * Gets the rewards as a FloatBuffer over the same floats as getRewards.
+     * @return FloatBuffer The reward of each environment.
+     */
+    public FloatBuffer getRewardBuffer() {
+        return rewardBuffer;
+    }
+
+    /**
+     * Gets the done flags as a FloatBuffer over the same floats as getDones.
+     * @return FloatBuffer The done flag of each environment.
+     */
+    public FloatBuffer getDoneBuffer() {
+        return doneBuffer;
+    }
+
+    /**
+     * Gets the number of environments.
+     * @return int The number of environments in the batch.
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Represents a single environment, playing the level with its own game objects.
+     */
+    private class Environment {
+        private final int index;
+        private final int offset;
+        private Level level;
+        private EntityDeque<Pipes> pipes;
+        private EntityDeque<Weapon> weapons;
+        private Bird bird;
+        private Background background;
+        private TimeScale timeScale;
+        private int ticks;
+
+        // Seeds of this environment's episodes
+        private final GameRandom seeds;
+
+        private Environment(int index) {
+            this.index = index;
+            this.offset = index * OBSERVATION_SIZE;
+            this.seeds = new GameRandom(0);
+        }
+
+        // Game objects are only created by the first episode, later ones reset them and reuse the pools
+        private void reset(long seed) {
+            if (level == null) {
+                GameRandom random = new GameRandom(seed);
+                level = levelNumber == 0 ? new Level0(0, random) : new Level1(0, random);
+                pipes = new EntityDeque<>();
+                weapons = new EntityDeque<>();
+                bird = level.createBird();
+                background = level.createBackground();
+                timeScale = new TimeScale();
+            } else {
+                level.reset(0, seed, pipes, weapons);
+                bird.reset();
+                timeScale.reset();
+            }
+            ticks = 0;
+        }
+
+        private void step(int controls) {
+            int score = level.getScore();
+            int lives = bird.getLives();
+            level.update(controls, pipes, bird, weapons, background, timeScale);
+            ticks++;
+
+            float reward = (level.getScore() - score) * POINT_REWARD + (lives - bird.getLives()) * LIFE_REWARD;
+            boolean isDone = level.getIsGameOver() || level.getIsLevelCompleted() || ticks >= maxTicks;
+            if (level.getIsGameOver()) {
+                reward += LOST_REWARD;
+            } else if (level.getIsLevelCompleted()) {
+                reward += COMPLETED_REWARD;
+            }
+            rewards[index] = reward;
+            dones[index] = isDone ? DONE : NOT_DONE;
+
+            if (isDone) {
+                reset(seeds.nextLong());
+            }
+            observe();
+        }
+
+        private void observe() {
+            int i = offset;
+            Hitbox birdBox = bird.getBird();
+            observations[i++] = (float) (birdBox.centreY() / Viewport.HEIGHT);
+            observations[i++] = (float) (bird.getVelocity() / VELOCITY_SCALE);
+            observations[i++] = bird.getLives();
+            observations[i++] = bird.getWeapon() != null ? 1 : 0;
+            observations[i++] = (float) timeScale.getTimeScale();
+
+            // Oldest pipes are last, so the next pipes are the first from the end not yet passed
+            int seen = 0;
+            for (int j = pipes.size() - 1; j >= 0 && seen < NEXT_PIPES; j--) {
+                Pipes pipe = pipes.get(j);
+                if (pipe.getTopPipe().right() < birdBox.left()) {
+                    continue;
+                }
+                observations[i++] = (float) ((pipe.getTopPipe().left() - birdBox.left()) / Viewport.WIDTH);
+                observations[i++] = (float) (pipe.getTopPipe().bottom() / Viewport.HEIGHT);
+                observations[i++] = (float) (pipe.getBottomPipe().top() / Viewport.HEIGHT);
+                observations[i++] = pipe instanceof SteelPipes && ((SteelPipes) pipe).getIsFlaming() ? 1 : 0;
+                seen++;
+            }
+            for (; seen < NEXT_PIPES; seen++) {
+                for (int k = 0; k < PIPE_FEATURES; k++) {
+                    observations[i++] = 0;
+                }
+            }
+
+            // Weapons still floating towards the bird
+            seen = 0;
+            for (int j = weapons.size() - 1; j >= 0 && seen < NEXT_WEAPONS; j--) {
+                Weapon weapon = weapons.get(j);
+                Hitbox weaponBox = weapon.getWeapon();
+                if (!weapon.getExists() || weapon.getIsPickedUp() || weapon.getIsShot() ||
+                        weaponBox.right() < birdBox.left()) {
+                    continue;
+                }
+                observations[i++] = (float) ((weaponBox.left() - birdBox.left()) / Viewport.WIDTH);
+                observations[i++] = (float) (weaponBox.centreY() / Viewport.HEIGHT);
+                observations[i++] = weapon.getTypeId() == EntityType.BOMB ? 1 : 0;
+                seen++;
+            }
+            for (; seen < NEXT_WEAPONS; seen++) {
+                for (int k = 0; k < WEAPON_FEATURES; k++) {
+                    observations[i++] = 0;
+                }
+            }
+        }
+    }
+
+    /**
+     * The entry point for measuring the steps per second under random controls.
+     * @param args String[], optionally the level, the number of environments and the seconds to run for.
+     * @return void
+     */
+    public static void main(String[] args) {
+        int levelNumber = args.length > 0 ? Integer.parseInt(args[0]) : 1;
+        int count = args.length > 1 ? Integer.parseInt(args[1]) : 256;
+        double seconds = args.length > 2 ? Double.parseDouble(args[2]) : 10;
+        if ((levelNumber != 0 && levelNumber != 1) || count < 1) {
+            System.out.println("Usage: java VectorEnvironment [0|1] [environments] [seconds]");
+            System.exit(ERROR);
+        }
+
+        VectorEnvironment environment = new VectorEnvironment(levelNumber, count, Integer.MAX_VALUE);
+        GameRandom random = new GameRandom(0);
+        int[] controls = new int[count];
+        long episodes = 0, steps = 0;
+        double totalReward = 0;
+        environment.reset(0);
+
+        long start = System.nanoTime(), end = start + (long) (seconds * NANOS_PER_SECOND);
+        while (System.nanoTime() < end) {
+            for (int i = 0; i < count; i++) {
+                controls[i] = (random.nextInt(RANDOM_FLAP_ONE_IN) == 0 ? Controls.FLAP : Controls.NONE) |
+                        (random.nextInt(SHOOT_ONE_IN) == 0 ? Controls.SHOOT : Controls.NONE);
+            }
+            environment.step(controls);
+            for (int i = 0; i < count; i++) {
+                totalReward += environment.getRewards()[i];
+                episodes += (long) environment.getDones()[i];
+            }
+            steps += count;
+        }
+        double elapsed = (System.nanoTime() - start) / NANOS_PER_SECOND;
+        environment.close();
+
+        System.out.printf("Level %d, %d environments on %d threads: %.0f steps per second, %d episodes, " +
+                        "mean reward per episode %.2f%n", levelNumber, count, environment.slices, steps / elapsed,
+                episodes, totalReward / Math.max(episodes, 1));
+    }
+}
@@ -0,0 +1,28 @@
+/**
+ * Represents the dimensions of the game window, available without an open window so that the game logic
+ * can run headlessly, and decides what lies within it so that nothing off screen is drawn.
+ */
+public final class Viewport {
+    /**
+     * The width of the window.
+     */
+    public static final int WIDTH = 1024;
+
+    /**
+     * The height of the window.
+     */
+    public static final int HEIGHT = 768;
+
+    private Viewport() {
+    }
+
+    /**
+     * Takes in box, and determines whether any part of it lies within the window at any point of its last
+     * sweep, and so whether it may be seen when drawn part of the way through it.
+     * @param box Hitbox object to check.
+     * @return boolean Returns true if the hitbox may be seen, and false otherwise.
+     */
+    public static boolean isVisible(Hitbox box) {
+        return box.sweptRight() > 0 && box.sweptLeft() < WIDTH && box.sweptBottom() > 0 && box.sweptTop() < HEIGHT;
+    }
+}
@@ -1,16 +1,9 @@
-import bagel.Image;
-import bagel.Input;
-import bagel.Keys;
-import bagel.Window;
-import bagel.util.Point;
-import bagel.util.Rectangle;
-
 /**
  * Represents an abstract weapon, allowing it to be controlled, fired, and drawn.
  */
-public abstract class Weapon extends ControllableObject implements Fireable, Drawable {
+public abstract class Weapon extends ControllableObject implements Fireable, Drawable, Interpolable {
     // Dimensions
-    private final double INITIAL_X = Window.getWidth();
+    private final double INITIAL_X = Viewport.WIDTH;
     private final double SPEED_AFTER_SHOOTING = 5;
 
     // Weapon logic
@@ -22,7 +15,7 @@ public abstract class Weapon extends ControllableObject implements Fireable, Dra
     private int shotDistanceFrames;
     private boolean exists;
     private TimeScale timeScale;
-    private Rectangle weapon;
+    private Hitbox weapon;
 
     /**
      * The initial velocity of a weapon.
@@ -33,13 +26,13 @@ public abstract class Weapon extends ControllableObject implements Fireable, Dra
      * Takes in velocity, weaponY, image, and creates a Weapon.
      * @param velocity double, velocity at which the weapon initially starts at.
      * @param weaponY double, Y value of the weapon.
-     * @param image The Image object which represents the weapon.
+     * @param image The Sprite object which represents the weapon.
      */
-    public Weapon(double velocity, double weaponY, Image image) {
+    public Weapon(double velocity, double weaponY, Sprite image) {
         super(velocity);
         this.weaponX = INITIAL_X;
         this.weaponY = weaponY;
-        this.weapon = new Rectangle(getWeaponX(), getWeaponY(), image.getWidth(), image.getHeight());
+        this.weapon = new Hitbox(getWeaponX(), getWeaponY(), image.getMask());
         this.isPickedUp = false;
         this.isShot = false;
         this.shotDistanceFrames = 0;
@@ -51,22 +44,41 @@ public abstract class Weapon extends ControllableObject implements Fireable, Dra
      * Takes in velocity, weaponY, scale, image, and creates a Weapon.
      * @param velocity double, velocity at which the weapon initially starts at.
      * @param weaponY double, Y value of the weapon.
-     * @param image The Image object which represents the weapon.
+     * @param image The Sprite object which represents the weapon.
      * @param scale The TimeScale object which determines the speed of objects within the window.
      */
-    public Weapon(double velocity, double weaponY, TimeScale scale, Image image) {
+    public Weapon(double velocity, double weaponY, TimeScale scale, Sprite image) {
         this(velocity, weaponY, image);
         this.timeScale = scale;
     }
 
+    /**
+     * Takes in velocity, weaponY, scale, and resets the weapon to a newly spawned state so that it can be
+     * reused, returns nothing.
+     * @param velocity double, velocity at which the weapon initially starts at.
+     * @param weaponY double, Y value of the weapon.
+     * @param scale The TimeScale object which determines the speed of objects within the window.
+     * @return void
+     */
+    public void reset(double velocity, double weaponY, TimeScale scale) {
+        setVelocity(velocity);
+        moveTo(INITIAL_X, weaponY);
+        this.initialShotX = 0;
+        this.isPickedUp = false;
+        this.isShot = false;
+        this.shotDistanceFrames = 0;
+        this.exists = true;
+        this.timeScale = scale;
+    }
+
     /**
      * Checks whether an attack is triggered.
-     * @param input The Input object processing the key input.
+     * @param controls int, the controls pressed this frame.
      * @return boolean Returns true if an attack is triggered as true, and false otherwise.
      */
     @Override
-    public boolean triggered(Input input) {
-        if (input.wasPressed(Keys.S) && isPickedUp) {
+    public boolean triggered(int controls) {
+        if (Controls.isPressed(controls, Controls.SHOOT) && isPickedUp) {
             isPickedUp = false;
             isShot = true;
             return true;
@@ -94,7 +106,7 @@ public abstract class Weapon extends ControllableObject implements Fireable, Dra
     public void move() {
         // calculate and change to new position
         if (getScale() != null) {
-            setVelocity(Weapon.INITIAL_VELOCITY * Math.pow(TimeScalable.MULTIPLIER, getTimeScale() - 1));
+            setVelocity(Weapon.INITIAL_VELOCITY * getScale().getSpeedMultiplier());
         } else {
             setVelocity(Weapon.INITIAL_VELOCITY);
         }
@@ -103,27 +115,33 @@ public abstract class Weapon extends ControllableObject implements Fireable, Dra
         if (getIsShot()) {
             setShotDistanceFrames(getShotDistanceFrames() + 1);
             setWeaponX(getWeaponX() + getVelocity());
-            setWeapon(new Point(getWeaponX(), getWeaponY()));
+            setWeapon(getWeaponX(), getWeaponY());
         }
         // Weapon is not shot
         else {
             setWeaponX(getWeaponX() - getVelocity());
-            setWeapon(new Point(getWeaponX(), getWeaponY()));
+            setWeapon(getWeaponX(), getWeaponY());
         }
     }
 
     protected void moveTo(double x, double y) {
         setWeaponX(x);
         setWeaponY(y);
-        setWeapon(new Point(x, y));
+        weapon.moveTo(x, y);
+    }
+
+    protected void sweepTo(double x, double y) {
+        setWeaponX(x);
+        setWeaponY(y);
+        setWeapon(x, y);
     }
 
     /**
-     * Checks whether a weather a rectangle intersects a weapon.
-     * @param rectangle The Rectangle object which the collision is checked on.
-     * @return boolean Returns true if the weapon intersects the rectangle and false otherwise.
+     * Checks whether a weather a hitbox intersects a weapon.
+     * @param rectangle The Hitbox object which the collision is checked on.
+     * @return boolean Returns true if the weapon intersects the hitbox and false otherwise.
      */
-    public boolean intersects(Rectangle rectangle) {
+    public boolean intersects(Hitbox rectangle) {
         if (getWeapon().intersects(rectangle)) {
             return true;
         }
@@ -131,11 +149,28 @@ public abstract class Weapon extends ControllableObject implements Fireable, Dra
     }
 
     /**
-     * Checks whether a collision occurred between a pipe and a weapon.
+     * Checks whether a collision occurred between a pipe and a weapon, and if so, applies the Interactions
+     * rules for the two types to both.
      * @param pipes Pipe object on which to check if a collision happened.
-     * @return boolean Returns true if a collision occurred, and false otherwise.
+     * @return int The points scored by the collision, 0 if there was none.
+     */
+    public int detectShotCollision(Pipes pipes) {
+        if (!getWeapon().sweptIntersects(pipes.getTopPipe()) && !getWeapon().sweptIntersects(pipes.getBottomPipe())) {
+            return 0;
+        }
+        int cell = Interactions.find(getTypeId(), pipes.getTypeId());
+        pipes.takeDamage(this);
+        if (Interactions.destroysWeapon(cell)) {
+            perish();
+        }
+        return Interactions.getScore(cell);
+    }
+
+    /**
+     * Gets the weapon's type.
+     * @return int The EntityType id of the weapon.
      */
-    public abstract boolean detectShotCollision(Pipes pipes);
+    public abstract int getTypeId();
 
     /**
      * Sets the isPickedUp value to the value specified, returns nothing.
@@ -164,10 +199,31 @@ public abstract class Weapon extends ControllableObject implements Fireable, Dra
 
     /**
      * Draws weapon to the window, returns nothing.
+     * @param queue RenderQueue object, drawn to the window once the frame is complete.
+     * @return void
+     */
+    @Override
+    public void draw(RenderQueue queue) {
+        draw(queue, CURRENT);
+    }
+
+    /**
+     * Takes in queue and alpha, and draws the weapon between its previous and current positions,
+     * returns nothing.
+     * @param queue RenderQueue object, drawn to the window once the frame is complete.
+     * @param alpha double, from 0 for the previous position to 1 for the current position.
      * @return void
      */
     @Override
-    public abstract void draw();
+    public abstract void draw(RenderQueue queue, double alpha);
+
+    /**
+     * Determines whether the weapon may be seen within the window.
+     * @return boolean Returns true if the weapon may be seen, and false otherwise.
+     */
+    public boolean isVisible() {
+        return Viewport.isVisible(getWeapon());
+    }
 
     /**
      * Checks whether the weapon is outside the window.
@@ -198,6 +254,42 @@ public abstract class Weapon extends ControllableObject implements Fireable, Dra
      */
     public abstract void moveWithBird(Bird bird);
 
+    /**
+     * Takes in snapshot, and writes the weapon's state to it, returns nothing.
+     * @param snapshot WorldSnapshot object to write to.
+     * @return void
+     */
+    public void save(WorldSnapshot snapshot) {
+        snapshot.putDouble(getVelocity());
+        snapshot.putDouble(initialShotX);
+        snapshot.putDouble(weaponX);
+        snapshot.putDouble(weaponY);
+        snapshot.putBoolean(isPickedUp);
+        snapshot.putBoolean(isShot);
+        snapshot.putInt(shotDistanceFrames);
+        snapshot.putBoolean(exists);
+        weapon.save(snapshot);
+    }
+
+    /**
+     * Takes in snapshot and scale, and reads the weapon's state back from it, returns nothing.
+     * @param snapshot WorldSnapshot object to read from.
+     * @param scale The TimeScale object which determines the speed of objects within the window.
+     * @return void
+     */
+    public void restore(WorldSnapshot snapshot, TimeScale scale) {
+        setVelocity(snapshot.getDouble());
+        this.initialShotX = snapshot.getDouble();
+        this.weaponX = snapshot.getDouble();
+        this.weaponY = snapshot.getDouble();
+        this.isPickedUp = snapshot.getBoolean();
+        this.isShot = snapshot.getBoolean();
+        this.shotDistanceFrames = snapshot.getInt();
+        this.exists = snapshot.getBoolean();
+        this.timeScale = scale;
+        weapon.restore(snapshot);
+    }
+
     protected void perish() {
         exists = false;
     }
@@ -233,14 +325,14 @@ public abstract class Weapon extends ControllableObject implements Fireable, Dra
     }
 
     /**
-     * Gets the weapon rectangle.
-     * @return Rectangle The rectangle representing the weapon within the class.
+     * Gets the weapon hitbox.
+     * @return Hitbox The hitbox representing the weapon within the class.
      */
-    public Rectangle getWeapon() {
+    public Hitbox getWeapon() {
         return weapon;
     }
 
-    protected void setWeapon(Point point) {
-        weapon.moveTo(point);
+    protected void setWeapon(double x, double y) {
+        weapon.sweepTo(x, y);
     }
 }
@@ -0,0 +1,63 @@
+import java.util.ArrayDeque;
+
+/**
+ * Represents a pool of rocks and bombs, recycling weapons that have left the level instead of creating
+ * new ones for every spawn.
+ */
+public class WeaponPool {
+    private final ArrayDeque<Rock> rocks;
+    private final ArrayDeque<Bomb> bombs;
+
+    /**
+     * Instantiates an empty WeaponPool.
+     */
+    public WeaponPool() {
+        this.rocks = new ArrayDeque<>();
+        this.bombs = new ArrayDeque<>();
+    }
+
+    /**
+     * Takes in velocity, rockY and scale, and returns a recycled rock, or a new one if none are available.
+     * @param velocity double, velocity which the rock is travelling.
+     * @param rockY double, Y position which the rock starts from.
+     * @param scale The timeScale object representing the time mechanics dictating the rock.
+     * @return Rock A newly spawned rock.
+     */
+    public Rock acquireRock(double velocity, double rockY, TimeScale scale) {
+        Rock rock = rocks.pollFirst();
+        if (rock == null) {
+            return new Rock(velocity, rockY, scale);
+        }
+        rock.reset(velocity, rockY, scale);
+        return rock;
+    }
+
+    /**
+     * Takes in velocity, bombY and scale, and returns a recycled bomb, or a new one if none are available.
+     * @param velocity double, the velocity which the bomb is travelling.
+     * @param bombY double, the Y position which the bomb starts from.
+     * @param scale TimeScale object representing the time mechanics dictating the bomb.
+     * @return Bomb A newly spawned bomb.
+     */
+    public Bomb acquireBomb(double velocity, double bombY, TimeScale scale) {
+        Bomb bomb = bombs.pollFirst();
+        if (bomb == null) {
+            return new Bomb(velocity, bombY, scale);
+        }
+        bomb.reset(velocity, bombY, scale);
+        return bomb;
+    }
+
+    /**
+     * Takes in a weapon which is no longer within the level, and returns it to the pool, returns nothing.
+     * @param weapon Weapon object to be recycled.
+     * @return void
+     */
+    public void release(Weapon weapon) {
+        if (weapon instanceof Bomb) {
+            bombs.addFirst((Bomb) weapon);
+        } else if (weapon instanceof Rock) {
+            rocks.addFirst((Rock) weapon);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+import java.util.Arrays;
+
+/**
+ * Represents a saved copy of the game state, written by each object in turn as a flat sequence of
+ * primitive values rather than as copies of the objects themselves. A snapshot can be reused for any number
+ * of saves, so saving and restoring does not allocate once the buffer has grown to fit the world.
+ */
+public class WorldSnapshot {
+    private static final int INITIAL_CAPACITY = 256;
+
+    private long[] values;
+    private int size;
+    private int position;
+
+    /**
+     * Instantiates an empty WorldSnapshot.
+     */
+    public WorldSnapshot() {
+        this.values = new long[INITIAL_CAPACITY];
+        this.size = 0;
+        this.position = 0;
+    }
+
+    /**
+     * Empties the snapshot, ready to be written from the start, returns nothing.
+     * @return void
+     */
+    public void clear() {
+        size = 0;
+        position = 0;
+    }
+
+    /**
+     * Moves back to the start of the snapshot, ready to be read again, returns nothing.
+     * @return void
+     */
+    public void rewind() {
+        position = 0;
+    }
+
+    /**
+     * Gets the number of values written.
+     * @return int The number of values in the snapshot.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Takes in value and appends it, returns nothing.
+     * @param value long, the value to write.
+     * @return void
+     */
+    public void putLong(long value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size << 1);
+        }
+        values[size++] = value;
+    }
+
+    /**
+     * Takes in value and appends it, returns nothing.
+     * @param value double, the value to write.
+     * @return void
+     */
+    public void putDouble(double value) {
+        putLong(Double.doubleToRawLongBits(value));
+    }
+
+    /**
+     * Takes in value and appends it, returns nothing.
+     * @param value int, the value to write.
+     * @return void
+     */
+    public void putInt(int value) {
+        putLong(value);
+    }
+
+    /**
+     * Takes in value and appends it, returns nothing.
+     * @param value boolean, the value to write.
+     * @return void
+     */
+    public void putBoolean(boolean value) {
+        putLong(value ? 1 : 0);
+    }
+
+    /**
+     * Reads the next value.
+     * @return long The value read.
+     */
+    public long getLong() {
+        if (position >= size) {
+            throw new IllegalStateException("Read past the end of the snapshot");
+        }
+        return values[position++];
+    }
+
+    /**
+     * Reads the next value.
+     * @return double The value read.
+     */
+    public double getDouble() {
+        return Double.longBitsToDouble(getLong());
+    }
+
+    /**
+     * Reads the next value.
+     * @return int The value read.
+     */
+    public int getInt() {
+        return (int) getLong();
+    }
+
+    /**
+     * Reads the next value.
+     * @return boolean The value read.
+     */
+    public boolean getBoolean() {
+        return getLong() != 0;
+    }
+}